@@ -1,5 +1,6 @@
 package frc.robot;
 
+import frc.robot.utils.InterpolatingTable;
 import frc.robot.valuetuner.WebConstant;
 
 import edu.wpi.first.math.geometry.Pose2d;
@@ -11,12 +12,49 @@ import org.photonvision.SimVisionTarget;
 public final class Constants {
     public static final double FIELD_WIDTH = 8.23; // Width of the field. [m]
     public static final double FIELD_LENGTH = 16.46; // Length of the field. [m]
+    public static final int ROBOT_THREAD_PRIORITY = 20; // Real-time priority of the robot thread, below the high rate thread. [1, 99]
 
     public static class ExampleSubsystem {
         private static final String NAME = ExampleSubsystem.class.getName();
         public static final WebConstant POWER = WebConstant.of(NAME, "power", 0.5); // [%]
     }
 
+    public static class Autonomous {
+        public static final double MAX_VELOCITY = 2; // Maximal velocity of the autonomous trajectories. [m/s]
+        public static final double MAX_ACCELERATION = 1.5; // Maximal acceleration of the autonomous trajectories. [m/s^2]
+        public static final String TRAJECTORY_DIRECTORY = "trajectories"; // Generated trajectories in the deploy directory.
+    }
+
+    public static class LoadGovernor {
+        public static final double SMOOTHING = 0.2; // Weight of the latest loop in the smoothed loop time.
+        public static final double OVERLOAD_TIME = 0.016; // Smoothed loop time above which the loop is overloaded. [s]
+        public static final double RECOVERY_TIME = 0.010; // Smoothed loop time below which the loop has headroom. [s]
+        public static final int OVERLOAD_LOOPS = 5; // Overloaded loops in a row before shedding a level.
+        public static final int RECOVERY_LOOPS = 50; // Loops with headroom in a row before restoring a level.
+    }
+
+    public static class HighRate {
+        public static final double PERIOD = 0.005; // Period of the high rate control loop. [s]
+        public static final int PRIORITY = 40; // Real-time priority of the high rate thread on the robot. [1, 99]
+    }
+
+    public static class Telemetry {
+        public static final int POSITION_PERIOD = 1; // Sampling period of the motor positions. [loops]
+        public static final int VELOCITY_PERIOD = 1; // Sampling period of the motor velocities. [loops]
+        public static final int CURRENT_PERIOD = 5; // Sampling period of the motor currents. [loops]
+        public static final int TEMPERATURE_PERIOD = 50; // Sampling period of the motor temperatures. [loops]
+    }
+
+    public static class Shooter {
+        public static final String TABLE_FILE = "shooter-table.csv"; // Distance to shooter setpoints table in the deploy directory.
+        public static final int VELOCITY_COLUMN = 0; // Column of the flywheel velocity in the table. [rpm]
+        public static final int HOOD_ANGLE_COLUMN = 1; // Column of the hood angle in the table. [deg]
+        public static final long TABLE_RELOAD_PERIOD = 1000; // Time between checks for changes in the table file. [ms]
+        // Used until the table file is loaded, which uses the same interpolation. Linear, since a cubic can overshoot between setpoints.
+        public static final InterpolatingTable DEFAULT_TABLE = new InterpolatingTable(
+                new double[]{1, 8}, new double[][]{{2500, 4500}, {10, 40}}, InterpolatingTable.Interpolation.LINEAR);
+    }
+
     public static class Vision {
         public static final double CAMERA_HEIGHT = 0.767; // [m]
         public static final double TARGET_HEIGHT_FROM_GROUND = 2.64; // [m]
@@ -28,6 +66,15 @@ public final class Constants {
         public static final double MIN_TARGET_AREA = 10; // Minimal area of target. [pixel^2]
         public static final double TARGET_WIDTH = 1.36; // Width of vision target strip. [m]
         public static final double TARGET_HEIGHT = 0.05; // Height of the vision target strip. [m]
+        public static final double MIN_TARGET_PITCH = -25; // Minimal pitch of a visible target. [deg]
+        public static final double MAX_TARGET_PITCH = 25; // Maximal pitch of a visible target. [deg]
+        public static final int PITCH_TABLE_SAMPLES = 1001; // Number of samples in the pitch to distance table.
+        public static final double SIM_FRAME_RATE = 30; // Frame rate of the simulated camera. [fps]
+        public static final double SIM_LATENCY = 35; // Mean latency of the simulated camera. [ms]
+        public static final double SIM_LATENCY_JITTER = 5; // Standard deviation of the simulated latency. [ms]
+        public static final double SIM_FRAME_DROP_CHANCE = 0.05; // Probability of a simulated frame being dropped. [0, 1]
+        public static final long SIM_RANDOM_SEED = 2022; // Seed of the simulated jitter and drops, so runs are reproducible.
+        public static final String SIM_RAW_CAMERA_SUFFIX = "-raw"; // Suffix of the table the vision system publishes its zero-latency frames to.
 
         public static final Pose2d HUB_POSE = new Pose2d( // Position of the hub relative to the field.
                 new Translation2d(FIELD_LENGTH / 2, FIELD_WIDTH / 2), new Rotation2d());
@@ -7,10 +7,14 @@ package frc.robot;
 import com.kauailabs.navx.frc.AHRS;
 import edu.wpi.first.wpilibj.DriverStation;
 import edu.wpi.first.wpilibj.PowerDistribution;
+import edu.wpi.first.wpilibj.RobotController;
 import edu.wpi.first.wpilibj.SPI;
+import edu.wpi.first.wpilibj.Threads;
 import edu.wpi.first.wpilibj.TimedRobot;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.utils.LoadGovernor;
+import frc.robot.utils.StartupStages;
 import frc.robot.valuetuner.NetworkTableConstant;
 
 /**
@@ -21,8 +25,10 @@ import frc.robot.valuetuner.NetworkTableConstant;
  */
 public class Robot extends TimedRobot {
     public static final boolean debug = !DriverStation.isFMSAttached();
-    public static final AHRS navx = new AHRS(SPI.Port.kMXP);
-    public PowerDistribution pdp = new PowerDistribution();
+    public static AHRS navx;
+    public volatile PowerDistribution pdp;
+    private final StartupStages startup = new StartupStages();
+    private long scheduledLoopStart = 0; // [us]
     private RobotContainer m_robotContainer;
     private Command m_autonomousCommand;
 
@@ -32,10 +38,18 @@ public class Robot extends TimedRobot {
      */
     @Override
     public void robotInit() {
+        startup.run("navx", () -> navx = new AHRS(SPI.Port.kMXP));
+        startup.run("robot container", () -> m_robotContainer = new RobotContainer(startup));
+        startup.defer("power distribution", () -> pdp = new PowerDistribution());
         if (debug) {
-            NetworkTableConstant.initializeAllConstants();
+            startup.defer("value tuner", NetworkTableConstant::initializeAllConstants);
+        }
+        startup.ready();
+        // Java priorities are ignored on the robot, so the robot thread is raised above the background threads instead.
+        // This is done last, since threads created by a real-time thread inherit its priority.
+        if (isReal()) {
+            Threads.setCurrentThreadPriority(true, Constants.ROBOT_THREAD_PRIORITY);
         }
-        m_robotContainer = new RobotContainer();
     }
 
     /**
@@ -50,6 +64,25 @@ public class Robot extends TimedRobot {
         CommandScheduler.getInstance().run();
     }
 
+    /**
+     * Times the whole loop for the {@link LoadGovernor}, including the SmartDashboard, LiveWindow and watchdog updates
+     * that run after {@link #robotPeriodic()}, from the time the loop was scheduled to start.
+     * A loop that started late, because of a GC pause or a previous overrun that {@link TimedRobot} catches up on
+     * with back to back loops, is also charged for the time it waited.
+     */
+    @Override
+    protected void loopFunc() {
+        long start = RobotController.getFPGATime();
+        long period = (long) (getPeriod() * 1e6);
+        // Resynchronizes on the first loop, on a loop that started early, and once the loop fell behind by more than a period.
+        if (scheduledLoopStart == 0 || start < scheduledLoopStart || start - scheduledLoopStart > period) {
+            scheduledLoopStart = start;
+        }
+        super.loopFunc();
+        LoadGovernor.update((RobotController.getFPGATime() - scheduledLoopStart) / 1e6);
+        scheduledLoopStart += period;
+    }
+
     /**
      * This autonomous (along with the chooser code above) shows how to select between different
      * autonomous modes using the dashboard. The sendable chooser code works with the Java
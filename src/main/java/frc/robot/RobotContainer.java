@@ -3,32 +3,53 @@ package frc.robot;
 import edu.wpi.first.wpilibj.XboxController;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.button.JoystickButton;
+import frc.robot.autonomous.AutonomousTrajectories;
+import frc.robot.autonomous.MappedTrajectory;
+import frc.robot.subsystems.MotorTelemetry;
+import frc.robot.utils.HighRateLoop;
 import frc.robot.utils.PhotonVisionModule;
+import frc.robot.utils.ReloadableTable;
 import frc.robot.utils.SimulateDrivetrain;
+import frc.robot.utils.StartupStages;
 import frc.robot.utils.commands.SimulateDrivetrainDefaultCommand;
 import webapp.Webserver;
 
+import java.io.IOException;
+import java.util.EnumMap;
+
 public class RobotContainer {
     // The robot's subsystems and commands are defined here...
     private final XboxController xbox = new XboxController(Ports.Controls.XBOX);
     private final JoystickButton a = new JoystickButton(xbox, XboxController.Button.kA.value);
     private final SimulateDrivetrain simulateDrivetrain = new SimulateDrivetrain();
+    private final MotorTelemetry motorTelemetry = new MotorTelemetry(
+            Constants.Telemetry.POSITION_PERIOD, Constants.Telemetry.VELOCITY_PERIOD,
+            Constants.Telemetry.CURRENT_PERIOD, Constants.Telemetry.TEMPERATURE_PERIOD);
+    private final HighRateLoop highRateLoop = new HighRateLoop(Constants.HighRate.PERIOD, Constants.HighRate.PRIORITY);
     private final PhotonVisionModule visionModule;
+    private final EnumMap<AutonomousTrajectories, MappedTrajectory> trajectories = new EnumMap<>(AutonomousTrajectories.class);
+    private final ReloadableTable shooterTable = new ReloadableTable(Constants.Shooter.TABLE_FILE, Constants.Shooter.DEFAULT_TABLE);
 
     /**
      * The container for the robot.  Contains subsystems, OI devices, and commands.
+     *
+     * @param startup the startup stages, used to defer the non-critical initialization.
      */
-    public RobotContainer() {
+    public RobotContainer(StartupStages startup) {
         if (Robot.isSimulation()) {
             visionModule = new PhotonVisionModule("photonvision", simulateDrivetrain);
+            highRateLoop.register(simulateDrivetrain);
         } else {
             visionModule = new PhotonVisionModule("photonvision", null);
         }
+        highRateLoop.start();
         // Configure the button bindings and default commands
         configureDefaultCommands();
+        startup.run("autonomous trajectories", this::loadTrajectories);
 
         if (Robot.debug) {
-            startFireLog();
+            startup.defer("web server", this::startFireLog);
+            startup.defer("shooter table watcher", () -> shooterTable.watch(Constants.Shooter.TABLE_RELOAD_PERIOD));
         }
 
         configureButtonBindings();
@@ -43,6 +64,29 @@ public class RobotContainer {
     }
 
 
+    /**
+     * Maps the trajectories that were generated at build time, so autonomous doesn't generate them.
+     */
+    private void loadTrajectories() {
+        for (AutonomousTrajectories trajectory : AutonomousTrajectories.values()) {
+            try {
+                trajectories.put(trajectory, MappedTrajectory.load(trajectory));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Gets a precomputed autonomous trajectory.
+     *
+     * @param trajectory the trajectory to get.
+     * @return the mapped trajectory, or null if it failed to load.
+     */
+    public MappedTrajectory getTrajectory(AutonomousTrajectories trajectory) {
+        return trajectories.get(trajectory);
+    }
+
     /**
      * Use this to pass the autonomous command to the main {@link Robot} class.
      *
@@ -58,7 +102,7 @@ public class RobotContainer {
     private void startFireLog() {
 
         try {
-            new Webserver();
+            new Webserver(Robot.isReal());
         } catch (Exception e) {
             e.printStackTrace();
         }
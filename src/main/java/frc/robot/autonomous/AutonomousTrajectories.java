@@ -0,0 +1,50 @@
+package frc.robot.autonomous;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.trajectory.Trajectory;
+import edu.wpi.first.math.trajectory.TrajectoryConfig;
+import edu.wpi.first.math.trajectory.TrajectoryGenerator;
+
+import java.util.List;
+
+import static frc.robot.Constants.Autonomous.*;
+import static frc.robot.Constants.FIELD_WIDTH;
+
+/**
+ * The trajectories of the autonomous routines.
+ * They are generated at build time by {@link TrajectoryCacheGenerator} and loaded on the robot as {@link MappedTrajectory}s.
+ * This class must not depend on the robot hardware, since it is also used by the build.
+ */
+public enum AutonomousTrajectories {
+    TAXI(false,
+            new Pose2d(6.8, FIELD_WIDTH / 2, Rotation2d.fromDegrees(180)),
+            new Pose2d(4.3, FIELD_WIDTH / 2, Rotation2d.fromDegrees(180)));
+
+    private final boolean reversed;
+    private final List<Pose2d> waypoints;
+
+    AutonomousTrajectories(boolean reversed, Pose2d... waypoints) {
+        this.reversed = reversed;
+        this.waypoints = List.of(waypoints);
+    }
+
+    /**
+     * Generates the trajectory. This is slow, and should run only at build time.
+     *
+     * @return the generated trajectory.
+     */
+    public Trajectory generate() {
+        TrajectoryConfig config = new TrajectoryConfig(MAX_VELOCITY, MAX_ACCELERATION).setReversed(reversed);
+        return TrajectoryGenerator.generateTrajectory(waypoints, config);
+    }
+
+    /**
+     * Gets the name of the cached trajectory file.
+     *
+     * @return the file name, relative to the trajectories directory.
+     */
+    public String fileName() {
+        return name().toLowerCase() + ".traj";
+    }
+}
@@ -0,0 +1,164 @@
+package frc.robot.autonomous;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.trajectory.Trajectory;
+import edu.wpi.first.wpilibj.Filesystem;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import static frc.robot.Constants.Autonomous.TRAJECTORY_DIRECTORY;
+
+/**
+ * A trajectory that was generated at build time, memory-mapped from the deploy directory.
+ * The states are read straight from the file when sampled, so the trajectory is never deserialized as a whole.
+ * <p>
+ * The file holds a header (magic, number of states, total time) followed by the states, each stored as
+ * time, velocity, acceleration, x, y, heading and curvature doubles.
+ */
+public class MappedTrajectory {
+    static final int MAGIC = 0x54524a31; // "TRJ1"
+    private static final int HEADER_BYTES = 2 * Integer.BYTES + Double.BYTES;
+    private static final int STATE_BYTES = 7 * Double.BYTES;
+    private static final int TIME = 0;
+    private static final int VELOCITY = 1;
+    private static final int ACCELERATION = 2;
+    private static final int X = 3;
+    private static final int Y = 4;
+    private static final int HEADING = 5;
+    private static final int CURVATURE = 6;
+
+    private final ByteBuffer buffer;
+    private final int states;
+    private final double totalTime; // [s]
+
+    private MappedTrajectory(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a trajectory file.");
+        }
+        this.states = buffer.getInt(Integer.BYTES);
+        this.totalTime = buffer.getDouble(2 * Integer.BYTES);
+        if (states < 1 || buffer.capacity() < HEADER_BYTES + (long) states * STATE_BYTES) {
+            throw new IOException("Truncated trajectory file.");
+        }
+    }
+
+    /**
+     * Maps a trajectory from the deploy directory.
+     *
+     * @param trajectory the trajectory to map.
+     * @return the mapped trajectory.
+     * @throws IOException if the file is missing or invalid.
+     */
+    public static MappedTrajectory load(AutonomousTrajectories trajectory) throws IOException {
+        return load(new File(new File(Filesystem.getDeployDirectory(), TRAJECTORY_DIRECTORY), trajectory.fileName()));
+    }
+
+    /**
+     * Maps a trajectory file written by {@link TrajectoryCacheGenerator}.
+     *
+     * @param file the file to map.
+     * @return the mapped trajectory.
+     * @throws IOException if the file is missing or invalid.
+     */
+    public static MappedTrajectory load(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedTrajectory(buffer);
+        }
+    }
+
+    /**
+     * Gets the total time of the trajectory.
+     *
+     * @return the total time. [s]
+     */
+    public double getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Gets the pose at the start of the trajectory.
+     *
+     * @return the initial pose.
+     */
+    public Pose2d getInitialPose() {
+        return new Pose2d(get(0, X), get(0, Y), new Rotation2d(get(0, HEADING)));
+    }
+
+    /**
+     * Samples the trajectory at a time, interpolating between the two closest states the same way as
+     * {@link Trajectory#sample(double)}.
+     *
+     * @param time the time since the start of the trajectory. [s]
+     * @return the state of the trajectory at that time.
+     */
+    public Trajectory.State sample(double time) {
+        if (time <= get(0, TIME)) {
+            return state(0);
+        }
+        if (time >= totalTime) {
+            return state(states - 1);
+        }
+
+        // Binary search for the first state after the time.
+        int low = 1;
+        int high = states - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (get(middle, TIME) < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int previous = low - 1;
+        double previousTime = get(previous, TIME);
+        double nextTime = get(low, TIME);
+        if (Math.abs(nextTime - previousTime) < 1e-9) {
+            return state(low);
+        }
+
+        double deltaT = time - previousTime;
+        double velocity = get(previous, VELOCITY);
+        double acceleration = get(previous, ACCELERATION);
+        boolean reversing = velocity < 0 || (Math.abs(velocity) < 1e-9 && acceleration < 0);
+        double distance = (velocity * deltaT + 0.5 * acceleration * deltaT * deltaT) * (reversing ? -1 : 1);
+        double segmentLength = Math.hypot(get(low, X) - get(previous, X), get(low, Y) - get(previous, Y));
+        double fraction = segmentLength < 1e-9 ? 0 : distance / segmentLength;
+
+        double heading = get(previous, HEADING)
+                + Math.IEEEremainder(get(low, HEADING) - get(previous, HEADING), 2 * Math.PI) * fraction;
+        return new Trajectory.State(
+                time,
+                velocity + acceleration * deltaT,
+                acceleration,
+                new Pose2d(interpolate(previous, low, X, fraction), interpolate(previous, low, Y, fraction),
+                        new Rotation2d(heading)),
+                interpolate(previous, low, CURVATURE, fraction));
+    }
+
+    private Trajectory.State state(int index) {
+        return new Trajectory.State(
+                get(index, TIME),
+                get(index, VELOCITY),
+                get(index, ACCELERATION),
+                new Pose2d(get(index, X), get(index, Y), new Rotation2d(get(index, HEADING))),
+                get(index, CURVATURE));
+    }
+
+    private double interpolate(int start, int end, int field, double fraction) {
+        double startValue = get(start, field);
+        return startValue + (get(end, field) - startValue) * fraction;
+    }
+
+    private double get(int index, int field) {
+        return buffer.getDouble(HEADER_BYTES + index * STATE_BYTES + field * Double.BYTES);
+    }
+}
@@ -0,0 +1,52 @@
+package frc.robot.autonomous;
+
+import edu.wpi.first.math.trajectory.Trajectory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Generates every {@link AutonomousTrajectories} into the binary format read by {@link MappedTrajectory}.
+ * Runs at build time through the {@code generateTrajectories} gradle task.
+ */
+public final class TrajectoryCacheGenerator {
+    private TrajectoryCacheGenerator() {
+    }
+
+    /**
+     * @param args the output directory.
+     */
+    public static void main(String... args) throws IOException {
+        File directory = new File(args[0]);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Couldn't create " + directory);
+        }
+        for (AutonomousTrajectories trajectory : AutonomousTrajectories.values()) {
+            File file = new File(directory, trajectory.fileName());
+            write(trajectory.generate(), file);
+            System.out.println("Generated " + file);
+        }
+    }
+
+    static void write(Trajectory trajectory, File file) throws IOException {
+        List<Trajectory.State> states = trajectory.getStates();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MappedTrajectory.MAGIC);
+            out.writeInt(states.size());
+            out.writeDouble(trajectory.getTotalTimeSeconds());
+            for (Trajectory.State state : states) {
+                out.writeDouble(state.timeSeconds);
+                out.writeDouble(state.velocityMetersPerSecond);
+                out.writeDouble(state.accelerationMetersPerSecondSq);
+                out.writeDouble(state.poseMeters.getX());
+                out.writeDouble(state.poseMeters.getY());
+                out.writeDouble(state.poseMeters.getRotation().getRadians());
+                out.writeDouble(state.curvatureRadPerMeter);
+            }
+        }
+    }
+}
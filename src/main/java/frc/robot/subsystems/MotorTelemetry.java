@@ -0,0 +1,157 @@
+package frc.robot.subsystems;
+
+import com.ctre.phoenix.motorcontrol.can.BaseTalon;
+import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import webapp.FireLog;
+
+import java.util.Arrays;
+
+/**
+ * Samples the telemetry of every registered motor and publishes it to the {@link FireLog}.
+ * Each signal is read at its own rate, and the values are converted in batches into preallocated buffers,
+ * so the sampling doesn't allocate memory or read a signal more often than needed.
+ * Motors that share a {@link UnitModel} should be registered one after the other to be converted together.
+ */
+public class MotorTelemetry extends SubsystemBase {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int[] periods = new int[Signal.values().length]; // [loops]
+    private BaseTalon[] motors = new BaseTalon[INITIAL_CAPACITY];
+    private UnitModel[] unitModels = new UnitModel[INITIAL_CAPACITY];
+    private String[][] topics = new String[Signal.values().length][INITIAL_CAPACITY];
+    private double[] rawValues = new double[INITIAL_CAPACITY];
+    private double[][] values = new double[Signal.values().length][INITIAL_CAPACITY];
+    private int size = 0;
+    private long loops = 0;
+
+    /**
+     * @param positionPeriod    the sampling period of the positions. [loops]
+     * @param velocityPeriod    the sampling period of the velocities. [loops]
+     * @param currentPeriod     the sampling period of the currents. [loops]
+     * @param temperaturePeriod the sampling period of the temperatures. [loops]
+     * @throws IllegalArgumentException if a period isn't positive.
+     */
+    public MotorTelemetry(int positionPeriod, int velocityPeriod, int currentPeriod, int temperaturePeriod) {
+        if (positionPeriod <= 0 || velocityPeriod <= 0 || currentPeriod <= 0 || temperaturePeriod <= 0) {
+            throw new IllegalArgumentException("The sampling periods must be positive.");
+        }
+        periods[Signal.POSITION.ordinal()] = positionPeriod;
+        periods[Signal.VELOCITY.ordinal()] = velocityPeriod;
+        periods[Signal.CURRENT.ordinal()] = currentPeriod;
+        periods[Signal.TEMPERATURE.ordinal()] = temperaturePeriod;
+    }
+
+    /**
+     * Registers a motor to sample.
+     *
+     * @param name      the name of the motor, used as the prefix of its topics.
+     * @param motor     the motor to sample.
+     * @param unitModel the unit model of the motor's sensor.
+     * @return the index of the motor, used to get its values.
+     */
+    public int register(String name, BaseTalon motor, UnitModel unitModel) {
+        if (size == motors.length) {
+            int capacity = motors.length * 2;
+            motors = Arrays.copyOf(motors, capacity);
+            unitModels = Arrays.copyOf(unitModels, capacity);
+            rawValues = Arrays.copyOf(rawValues, capacity);
+            for (Signal signal : Signal.values()) {
+                topics[signal.ordinal()] = Arrays.copyOf(topics[signal.ordinal()], capacity);
+                values[signal.ordinal()] = Arrays.copyOf(values[signal.ordinal()], capacity);
+            }
+        }
+        motors[size] = motor;
+        unitModels[size] = unitModel;
+        for (Signal signal : Signal.values()) {
+            topics[signal.ordinal()][size] = name + " " + signal.topic;
+        }
+        return size++;
+    }
+
+    /**
+     * Gets the latest sampled value of a motor.
+     *
+     * @param index  the index of the motor.
+     * @param signal the signal to get.
+     * @return the latest value of the signal. [units, units/s, A, C]
+     */
+    public double get(int index, Signal signal) {
+        return values[signal.ordinal()][index];
+    }
+
+    @Override
+    public void periodic() {
+        for (Signal signal : Signal.values()) {
+            if (loops % periods[signal.ordinal()] == 0) {
+                sample(signal);
+            }
+        }
+        loops++;
+    }
+
+    private void sample(Signal signal) {
+        double[] signalValues = values[signal.ordinal()];
+        switch (signal) {
+            case POSITION:
+                for (int i = 0; i < size; i++) {
+                    rawValues[i] = motors[i].getSelectedSensorPosition();
+                }
+                convert(signal);
+                break;
+            case VELOCITY:
+                for (int i = 0; i < size; i++) {
+                    rawValues[i] = motors[i].getSelectedSensorVelocity();
+                }
+                convert(signal);
+                break;
+            case CURRENT:
+                for (int i = 0; i < size; i++) {
+                    signalValues[i] = motors[i].getSupplyCurrent();
+                }
+                break;
+            case TEMPERATURE:
+                for (int i = 0; i < size; i++) {
+                    signalValues[i] = motors[i].getTemperature();
+                }
+                break;
+        }
+
+        String[] signalTopics = topics[signal.ordinal()];
+        for (int i = 0; i < size; i++) {
+            FireLog.log(signalTopics[i], signalValues[i]);
+        }
+    }
+
+    /**
+     * Converts the raw values in batches of consecutive motors that share a unit model.
+     */
+    private void convert(Signal signal) {
+        double[] signalValues = values[signal.ordinal()];
+        int from = 0;
+        while (from < size) {
+            int to = from + 1;
+            while (to < size && unitModels[to] == unitModels[from]) {
+                to++;
+            }
+            if (signal == Signal.POSITION) {
+                unitModels[from].toUnits(rawValues, signalValues, from, to);
+            } else {
+                unitModels[from].toVelocity(rawValues, signalValues, from, to);
+            }
+            from = to;
+        }
+    }
+
+    public enum Signal {
+        POSITION("position"),
+        VELOCITY("velocity"),
+        CURRENT("current"),
+        TEMPERATURE("temperature");
+
+        private final String topic;
+
+        Signal(String topic) {
+            this.topic = topic;
+        }
+    }
+}
@@ -43,4 +43,30 @@ public class UnitModel {
         return (int) (velocity * ticksPerUnit / 10);
     }
 
+    /**
+     * converts a range of ticks to units
+     * @param ticks the given ticks
+     * @param units the array to write the units into
+     * @param from the first index to convert (inclusive)
+     * @param to the last index to convert (exclusive)
+     */
+    public void toUnits(double[] ticks, double[] units, int from, int to) {
+        for (int i = from; i < to; i++) {
+            units[i] = ticks[i] / ticksPerUnit;
+        }
+    }
+
+    /**
+     * converts a range of ticks per 100ms to velocities [m/s]
+     * @param ticks100ms the given ticks per 100ms
+     * @param velocities the array to write the velocities into [m/s]
+     * @param from the first index to convert (inclusive)
+     * @param to the last index to convert (exclusive)
+     */
+    public void toVelocity(double[] ticks100ms, double[] velocities, int from, int to) {
+        for (int i = from; i < to; i++) {
+            velocities[i] = (ticks100ms[i] / ticksPerUnit) * 10;
+        }
+    }
+
 }
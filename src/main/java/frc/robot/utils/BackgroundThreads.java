@@ -0,0 +1,40 @@
+package frc.robot.utils;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Creates the daemon threads of background work, like the web server and the diagnostics, with the minimal Java priority.
+ * <p>
+ * The Java priority is only a hint: Linux HotSpot ignores it under the default {@code ThreadPriorityPolicy},
+ * and the robot program doesn't run as root, which the other policy requires. What keeps these threads from
+ * delaying the robot is the real-time priority of the robot thread, set in {@link frc.robot.Robot#robotInit()}.
+ */
+public final class BackgroundThreads {
+    private BackgroundThreads() {
+    }
+
+    /**
+     * Creates a background thread, without starting it.
+     *
+     * @param runnable the work of the thread.
+     * @param name     the name of the thread.
+     * @return the new thread.
+     */
+    public static Thread newThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    }
+
+    /**
+     * Creates a scheduler that runs its tasks on a single background thread.
+     *
+     * @param name the name of the thread.
+     * @return the new scheduler.
+     */
+    public static ScheduledExecutorService newScheduler(String name) {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> newThread(runnable, name));
+    }
+}
@@ -0,0 +1,73 @@
+package frc.robot.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A wait-free exchange of a fixed number of doubles between two threads, implemented as a triple buffer.
+ * The writer fills a buffer of its own and swaps it with the shared buffer, and the reader swaps the shared buffer
+ * with a buffer of its own when it was updated, so the reader always gets a consistent set of values.
+ * Neither side ever waits for or retries because of the other, so it is safe in both directions between
+ * the real-time {@link HighRateLoop} thread and the scheduler thread.
+ * Only one thread may write to an exchange, and only one thread may read from it.
+ */
+public class DoubleExchange {
+    private static final int INDEX_MASK = 0b11;
+    private static final int UPDATED = 0b100; // Marks a shared buffer that the reader didn't take yet.
+
+    private final double[][] buffers;
+    private final AtomicInteger shared = new AtomicInteger(0); // The index of the shared buffer, with the UPDATED flag.
+    private int writeIndex = 1; // Owned by the writing thread.
+    private int readIndex = 2; // Owned by the reading thread.
+
+    /**
+     * @param size the number of values in the exchange.
+     */
+    public DoubleExchange(int size) {
+        buffers = new double[3][size];
+    }
+
+    /**
+     * Publishes new values. Should be called only from the writing thread.
+     *
+     * @param source the values to publish, of the same size as the exchange.
+     * @throws IllegalArgumentException if the array isn't of the same size as the exchange.
+     */
+    public void write(double[] source) {
+        checkLength(source);
+        System.arraycopy(source, 0, buffers[writeIndex], 0, source.length);
+        writeIndex = shared.getAndSet(writeIndex | UPDATED) & INDEX_MASK;
+    }
+
+    /**
+     * Reads the latest published values. Should be called only from the reading thread.
+     * If nothing was published since the last read, the previous values are read again.
+     *
+     * @param destination the array to read the values into, of the same size as the exchange.
+     * @return whether new values were published since the last read.
+     * @throws IllegalArgumentException if the array isn't of the same size as the exchange.
+     */
+    public boolean read(double[] destination) {
+        checkLength(destination);
+        boolean updated = (shared.get() & UPDATED) != 0;
+        if (updated) {
+            readIndex = shared.getAndSet(readIndex) & INDEX_MASK;
+        }
+        System.arraycopy(buffers[readIndex], 0, destination, 0, destination.length);
+        return updated;
+    }
+
+    /**
+     * Gets the number of values in the exchange.
+     *
+     * @return the number of values.
+     */
+    public int size() {
+        return buffers[0].length;
+    }
+
+    private void checkLength(double[] array) {
+        if (array.length != size()) {
+            throw new IllegalArgumentException("Expected " + size() + " values, got " + array.length + ".");
+        }
+    }
+}
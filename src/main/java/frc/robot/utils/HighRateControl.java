@@ -0,0 +1,15 @@
+package frc.robot.utils;
+
+/**
+ * A control update that runs on the {@link HighRateLoop} thread instead of the scheduler thread.
+ * Setpoints and measurements should be shared with the scheduler thread only through a {@link DoubleExchange},
+ * which never makes the high rate thread wait for the scheduler thread.
+ */
+public interface HighRateControl {
+    /**
+     * Runs a single control update. Called on the high rate thread.
+     *
+     * @param dt the time since the previous update. [s]
+     */
+    void highRateUpdate(double dt);
+}
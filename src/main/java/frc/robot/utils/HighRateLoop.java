@@ -0,0 +1,137 @@
+package frc.robot.utils;
+
+import edu.wpi.first.wpilibj.Notifier;
+import edu.wpi.first.wpilibj.RobotBase;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.Threads;
+import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import webapp.FireLog;
+
+import java.util.Arrays;
+
+/**
+ * Runs the registered {@link HighRateControl}s on a dedicated {@link Notifier} thread,
+ * faster than the period of the command scheduler.
+ * The timing statistics of the thread are collected in windows and published from the scheduler thread.
+ */
+public class HighRateLoop extends SubsystemBase {
+    private static final int PERIOD_MEAN = 0;
+    private static final int JITTER_RMS = 1;
+    private static final int JITTER_MAX = 2;
+    private static final int UPDATE_MAX = 3;
+    private static final int OVERRUNS = 4;
+
+    private final Notifier notifier = new Notifier(this::run);
+    private final double period; // [s]
+    private final int priority;
+    private final int windowSize;
+    private volatile HighRateControl[] controls = new HighRateControl[0];
+    private boolean running = false;
+
+    // Written only by the high rate thread.
+    private final DoubleExchange statistics = new DoubleExchange(5);
+    private final double[] window = new double[5];
+    private long lastTimestamp = 0; // [us]
+    private boolean prioritySet = false;
+    private int samples = 0;
+    private double periodSum = 0;
+    private double jitterSquaredSum = 0;
+    private double jitterMax = 0;
+    private double updateMax = 0;
+    private long overruns = 0;
+
+    // Read only by the scheduler thread.
+    private final double[] latestStatistics = new double[5];
+
+    /**
+     * @param period   the period of the loop. [s]
+     * @param priority the real-time priority of the thread on the robot. [1, 99]
+     */
+    public HighRateLoop(double period, int priority) {
+        this.period = period;
+        this.priority = priority;
+        this.windowSize = (int) Math.max(1, Math.round(1 / period)); // About a second of samples.
+        notifier.setName("HighRateLoop");
+    }
+
+    /**
+     * Registers a control to run on the high rate thread.
+     * Should be called before the loop is started.
+     *
+     * @param control the control to register.
+     */
+    public synchronized void register(HighRateControl control) {
+        HighRateControl[] updated = Arrays.copyOf(controls, controls.length + 1);
+        updated[controls.length] = control;
+        controls = updated;
+    }
+
+    /**
+     * Starts the loop, if any control was registered.
+     */
+    public void start() {
+        if (controls.length > 0) {
+            notifier.startPeriodic(period);
+            running = true;
+        }
+    }
+
+    private void run() {
+        if (!prioritySet) {
+            if (RobotBase.isReal()) {
+                Threads.setCurrentThreadPriority(true, priority);
+            }
+            prioritySet = true;
+        }
+
+        long timestamp = RobotController.getFPGATime();
+        double dt = lastTimestamp == 0 ? period : (timestamp - lastTimestamp) / 1e6;
+        lastTimestamp = timestamp;
+
+        for (HighRateControl control : controls) {
+            control.highRateUpdate(dt);
+        }
+
+        double updateTime = (RobotController.getFPGATime() - timestamp) / 1e6;
+        record(dt, updateTime);
+    }
+
+    private void record(double dt, double updateTime) {
+        double jitter = Math.abs(dt - period);
+        samples++;
+        periodSum += dt;
+        jitterSquaredSum += jitter * jitter;
+        jitterMax = Math.max(jitterMax, jitter);
+        updateMax = Math.max(updateMax, updateTime);
+        if (updateTime > period) {
+            overruns++;
+        }
+
+        if (samples == windowSize) {
+            window[PERIOD_MEAN] = periodSum / samples * 1000;
+            window[JITTER_RMS] = Math.sqrt(jitterSquaredSum / samples) * 1000;
+            window[JITTER_MAX] = jitterMax * 1000;
+            window[UPDATE_MAX] = updateMax * 1000;
+            window[OVERRUNS] = overruns;
+            statistics.write(window);
+            samples = 0;
+            periodSum = 0;
+            jitterSquaredSum = 0;
+            jitterMax = 0;
+            updateMax = 0;
+        }
+    }
+
+    @Override
+    public void periodic() {
+        if (!running) {
+            return;
+        }
+        statistics.read(latestStatistics);
+        FireLog.log("high rate period mean", latestStatistics[PERIOD_MEAN]);
+        FireLog.log("high rate jitter rms", latestStatistics[JITTER_RMS]);
+        FireLog.log("high rate jitter max", latestStatistics[JITTER_MAX]);
+        FireLog.log("high rate update max", latestStatistics[UPDATE_MAX]);
+        FireLog.log("high rate overruns", latestStatistics[OVERRUNS]);
+    }
+}
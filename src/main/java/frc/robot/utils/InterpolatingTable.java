@@ -0,0 +1,231 @@
+package frc.robot.utils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * An immutable lookup table that interpolates between monotonic keys.
+ * The table may hold several value columns for the same keys, all stored in primitive arrays.
+ * If the keys are evenly spaced the lookup is O(1), otherwise a binary search is used.
+ * Keys outside the range of the table are clamped to the first or last key.
+ */
+public class InterpolatingTable {
+    private static final double UNIFORM_TOLERANCE = 1e-9;
+
+    private final double[] keys;
+    private final double[][] values; // [column][index]
+    private final double[][] slopes; // Tangents of the cubic interpolation. [column][index]
+    private final Interpolation interpolation;
+    private final double step; // The spacing of the keys, or NaN if the keys are not evenly spaced.
+
+    /**
+     * @param keys          the keys of the table, must be strictly increasing.
+     * @param values        the values of every column, each of the same length as the keys.
+     * @param interpolation the interpolation between the keys.
+     */
+    public InterpolatingTable(double[] keys, double[][] values, Interpolation interpolation) {
+        if (keys.length < 2) {
+            throw new IllegalArgumentException("The table must contain at least two keys.");
+        }
+        for (int i = 1; i < keys.length; i++) {
+            if (!(keys[i] > keys[i - 1])) {
+                throw new IllegalArgumentException("The keys of the table must be strictly increasing.");
+            }
+        }
+        for (double[] column : values) {
+            if (column.length != keys.length) {
+                throw new IllegalArgumentException("Every column must be of the same length as the keys.");
+            }
+        }
+        this.keys = keys.clone();
+        this.values = new double[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            this.values[i] = values[i].clone();
+        }
+        this.interpolation = interpolation;
+        this.step = uniformStep(this.keys);
+        this.slopes = interpolation == Interpolation.CUBIC ? calculateSlopes(this.keys, this.values) : null;
+    }
+
+    /**
+     * Precomputes a function over evenly spaced keys.
+     *
+     * @param function      the function to precompute.
+     * @param min           the minimal key.
+     * @param max           the maximal key.
+     * @param samples       the number of keys.
+     * @param interpolation the interpolation between the keys.
+     * @return a table of the function.
+     */
+    public static InterpolatingTable of(DoubleUnaryOperator function, double min, double max, int samples, Interpolation interpolation) {
+        double[] keys = new double[samples];
+        double[] values = new double[samples];
+        for (int i = 0; i < samples; i++) {
+            keys[i] = min + (max - min) * i / (samples - 1);
+            values[i] = function.applyAsDouble(keys[i]);
+        }
+        return new InterpolatingTable(keys, new double[][]{values}, interpolation);
+    }
+
+    /**
+     * Loads a table from a comma separated file.
+     * Every line holds a key followed by the value of every column. Empty lines and lines starting with '#' are ignored.
+     *
+     * @param file          the file to load.
+     * @param interpolation the interpolation between the keys.
+     * @return the loaded table.
+     * @throws IOException if the file couldn't be read.
+     */
+    public static InterpolatingTable load(File file, Interpolation interpolation) throws IOException {
+        List<double[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] cells = line.split(",");
+                double[] row = new double[cells.length];
+                for (int i = 0; i < cells.length; i++) {
+                    row[i] = Double.parseDouble(cells[i].trim());
+                }
+                if (!rows.isEmpty() && row.length != rows.get(0).length) {
+                    throw new IOException("Inconsistent number of columns in " + file + ": " + line);
+                }
+                rows.add(row);
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number in " + file, e);
+        }
+        if (rows.isEmpty()) {
+            throw new IOException("The table " + file + " is empty.");
+        }
+
+        double[] keys = new double[rows.size()];
+        double[][] values = new double[rows.get(0).length - 1][rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            double[] row = rows.get(i);
+            keys[i] = row[0];
+            for (int column = 0; column < values.length; column++) {
+                values[column][i] = row[column + 1];
+            }
+        }
+        return new InterpolatingTable(keys, values, interpolation);
+    }
+
+    /**
+     * Gets the interpolated value of the first column.
+     *
+     * @param key the key to look up.
+     * @return the interpolated value.
+     */
+    public double get(double key) {
+        return get(key, 0);
+    }
+
+    /**
+     * Gets the interpolated value of a column.
+     *
+     * @param key    the key to look up.
+     * @param column the index of the column.
+     * @return the interpolated value.
+     */
+    public double get(double key, int column) {
+        double[] columnValues = values[column];
+        int last = keys.length - 1;
+        if (key <= keys[0]) {
+            return columnValues[0];
+        }
+        if (key >= keys[last]) {
+            return columnValues[last];
+        }
+
+        int i = indexOf(key);
+        double h = keys[i + 1] - keys[i];
+        double t = (key - keys[i]) / h;
+        if (interpolation == Interpolation.LINEAR) {
+            return columnValues[i] + (columnValues[i + 1] - columnValues[i]) * t;
+        }
+        double t2 = t * t;
+        double t3 = t2 * t;
+        return (2 * t3 - 3 * t2 + 1) * columnValues[i]
+                + (t3 - 2 * t2 + t) * h * slopes[column][i]
+                + (-2 * t3 + 3 * t2) * columnValues[i + 1]
+                + (t3 - t2) * h * slopes[column][i + 1];
+    }
+
+    /**
+     * Gets the number of value columns in the table.
+     *
+     * @return the number of columns.
+     */
+    public int columns() {
+        return values.length;
+    }
+
+    /**
+     * Gets the interpolation between the keys.
+     *
+     * @return the interpolation of the table.
+     */
+    public Interpolation getInterpolation() {
+        return interpolation;
+    }
+
+    /**
+     * Finds the index of the segment that contains the key.
+     * The key must be inside the range of the table.
+     */
+    private int indexOf(double key) {
+        int i;
+        if (!Double.isNaN(step)) {
+            i = (int) ((key - keys[0]) / step);
+        } else {
+            i = Arrays.binarySearch(keys, key);
+            if (i < 0) {
+                i = -i - 2; // The key before the insertion point.
+            }
+        }
+        return Math.min(Math.max(i, 0), keys.length - 2);
+    }
+
+    private static double uniformStep(double[] keys) {
+        double step = (keys[keys.length - 1] - keys[0]) / (keys.length - 1);
+        for (int i = 1; i < keys.length; i++) {
+            if (Math.abs(keys[i] - keys[i - 1] - step) > UNIFORM_TOLERANCE * step) {
+                return Double.NaN;
+            }
+        }
+        return step;
+    }
+
+    /**
+     * Calculates the tangents of a cubic Hermite (Catmull-Rom) spline through every column.
+     */
+    private static double[][] calculateSlopes(double[] keys, double[][] values) {
+        int last = keys.length - 1;
+        double[][] slopes = new double[values.length][keys.length];
+        for (int column = 0; column < values.length; column++) {
+            double[] y = values[column];
+            double[] m = slopes[column];
+            m[0] = (y[1] - y[0]) / (keys[1] - keys[0]);
+            m[last] = (y[last] - y[last - 1]) / (keys[last] - keys[last - 1]);
+            for (int i = 1; i < last; i++) {
+                m[i] = (y[i + 1] - y[i - 1]) / (keys[i + 1] - keys[i - 1]);
+            }
+        }
+        return slopes;
+    }
+
+    public enum Interpolation {
+        LINEAR,
+        CUBIC
+    }
+}
@@ -0,0 +1,88 @@
+package frc.robot.utils;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import webapp.FireLog;
+
+import static frc.robot.Constants.LoadGovernor.*;
+
+/**
+ * Watches the load of the robot loop, from its scheduled start to its end, and sheds non-critical diagnostics
+ * when it runs out of headroom.
+ * The load is degraded one level at a time while the loop is overloaded, and restored one level at a time
+ * once there is headroom again. Control outputs are never affected.
+ */
+public class LoadGovernor {
+    private static volatile Level level = Level.FULL;
+    private static double smoothedLoopTime = 0; // [s]
+    private static int overloadedLoops = 0;
+    private static int recoveredLoops = 0;
+
+    /**
+     * Updates the governor with the time of the last loop.
+     * Should be called at the end of every loop from {@link frc.robot.Robot}, after the dashboard and watchdog updates.
+     *
+     * @param loopTime the time from the scheduled start of the loop to its end, including how late it started. [s]
+     */
+    public static void update(double loopTime) {
+        smoothedLoopTime += SMOOTHING * (loopTime - smoothedLoopTime);
+
+        overloadedLoops = smoothedLoopTime > OVERLOAD_TIME ? overloadedLoops + 1 : 0;
+        recoveredLoops = smoothedLoopTime < RECOVERY_TIME ? recoveredLoops + 1 : 0;
+
+        Level[] levels = Level.values();
+        if (overloadedLoops >= OVERLOAD_LOOPS && level.ordinal() < levels.length - 1) {
+            transition(levels[level.ordinal() + 1]);
+        } else if (recoveredLoops >= RECOVERY_LOOPS && level.ordinal() > 0) {
+            transition(levels[level.ordinal() - 1]);
+        }
+    }
+
+    private static void transition(Level next) {
+        DriverStation.reportWarning(String.format("Load governor: %s -> %s (loop time %.1f ms)",
+                level, next, smoothedLoopTime * 1000), false);
+        level = next;
+        overloadedLoops = 0;
+        recoveredLoops = 0;
+        FireLog.logStatus("load level", level.ordinal());
+    }
+
+    /**
+     * Gets the current load level.
+     *
+     * @return the current level.
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * @return whether the state socket should push at a reduced rate.
+     */
+    public static boolean isPushRateReduced() {
+        return level.ordinal() >= Level.REDUCED_PUSH_RATE.ordinal();
+    }
+
+    /**
+     * @return whether diagnostics should be published to the dashboard.
+     */
+    public static boolean isDashboardEnabled() {
+        return level.ordinal() < Level.NO_DASHBOARD.ordinal();
+    }
+
+    /**
+     * @return whether the history should be recorded to the {@link FireLog}.
+     */
+    public static boolean isHistoryEnabled() {
+        return level.ordinal() < Level.NO_HISTORY.ordinal();
+    }
+
+    /**
+     * The levels of load shedding, from the lightest to the heaviest. Each level includes the previous ones.
+     */
+    public enum Level {
+        FULL,
+        REDUCED_PUSH_RATE,
+        NO_DASHBOARD,
+        NO_HISTORY
+    }
+}
@@ -13,6 +13,7 @@ import org.photonvision.PhotonUtils;
 import org.photonvision.SimPhotonCamera;
 import org.photonvision.SimVisionSystem;
 import org.photonvision.targeting.PhotonPipelineResult;
+import webapp.FireLog;
 
 import java.util.Optional;
 import java.util.OptionalDouble;
@@ -21,9 +22,14 @@ import static frc.robot.Constants.Vision.*;
 
 
 public class PhotonVisionModule extends SubsystemBase {
+    private static final InterpolatingTable PITCH_TO_DISTANCE = InterpolatingTable.of( // Distance from the target by its pitch. [deg -> m]
+            pitch -> PhotonUtils.calculateDistanceToTargetMeters(CAMERA_HEIGHT, TARGET_HEIGHT_FROM_GROUND, Math.toRadians(CAMERA_PITCH), Math.toRadians(pitch)),
+            MIN_TARGET_PITCH, MAX_TARGET_PITCH, PITCH_TABLE_SAMPLES, InterpolatingTable.Interpolation.CUBIC);
+
     private final PhotonCamera camera;
     private final SimPhotonCamera simCamera;
     private final SimVisionSystem simVisionSystem;
+    private final SimCameraModel simCameraModel;
     private final SimulateDrivetrain simulateDrivetrain;
 
     public PhotonVisionModule(String cameraName, SimulateDrivetrain simulateDrivetrain) {
@@ -31,12 +37,15 @@ public class PhotonVisionModule extends SubsystemBase {
         if (Robot.isSimulation()) {
             camera = null;
             simCamera = new SimPhotonCamera("photonvision");
-            simVisionSystem = new SimVisionSystem(cameraName, DIAG_FOV, CAMERA_PITCH, CAMERA_TO_ROBOT, CAMERA_HEIGHT, LED_RANGE, CAM_RESOLUTION_WIDTH, CAM_RESOLUTION_HEIGHT, MIN_TARGET_AREA);
+            // The vision system publishes every frame instantly, so it gets its own table and the model republishes the frames to the camera.
+            simVisionSystem = new SimVisionSystem(cameraName + SIM_RAW_CAMERA_SUFFIX, DIAG_FOV, CAMERA_PITCH, CAMERA_TO_ROBOT, CAMERA_HEIGHT, LED_RANGE, CAM_RESOLUTION_WIDTH, CAM_RESOLUTION_HEIGHT, MIN_TARGET_AREA);
             simVisionSystem.addSimVisionTarget(SIM_TARGET_HUB);
+            simCameraModel = new SimCameraModel(simVisionSystem, new PhotonCamera(cameraName + SIM_RAW_CAMERA_SUFFIX), simCamera, SIM_FRAME_RATE, SIM_LATENCY, SIM_LATENCY_JITTER, SIM_FRAME_DROP_CHANCE, SIM_RANDOM_SEED);
         } else {
             camera = new PhotonCamera(cameraName);
             simCamera = null;
             simVisionSystem = null;
+            simCameraModel = null;
         }
     }
 
@@ -46,10 +55,7 @@ public class PhotonVisionModule extends SubsystemBase {
      * @return whether we have a target.
      */
     public boolean hasTargets() {
-        if (Robot.isSimulation()) {
-            return simCamera.getLatestResult().hasTargets();
-        }
-        return camera.getLatestResult().hasTargets();
+        return getLatestResult().hasTargets();
     }
 
     /**
@@ -58,10 +64,9 @@ public class PhotonVisionModule extends SubsystemBase {
      * @return the distance of the vision module from the target. [m]
      */
     public OptionalDouble getDistance() {
-        var results = camera.getLatestResult();
+        var results = getLatestResult();
         if (results.hasTargets()) {
-            return OptionalDouble.of(PhotonUtils.calculateDistanceToTargetMeters(CAMERA_HEIGHT, TARGET_HEIGHT_FROM_GROUND, Math.toRadians(CAMERA_PITCH), Math.toRadians(results.getBestTarget()
-                    .getPitch())));
+            return OptionalDouble.of(PITCH_TO_DISTANCE.get(results.getBestTarget().getPitch()));
         }
         return OptionalDouble.empty();
     }
@@ -72,15 +77,9 @@ public class PhotonVisionModule extends SubsystemBase {
      * @return the translation relative to the target.
      */
     public Optional<Translation2d> estimateCameraTranslationToTarget() {
-        PhotonPipelineResult results;
-        if (Robot.isSimulation()) {
-            results = simCamera.getLatestResult();
-        } else {
-            results = camera.getLatestResult();
-        }
+        PhotonPipelineResult results = getLatestResult();
         if (results.hasTargets()) {
-            double distance = PhotonUtils.calculateDistanceToTargetMeters(CAMERA_HEIGHT, TARGET_HEIGHT_FROM_GROUND, Math.toRadians(CAMERA_PITCH), Math.toRadians(results.getBestTarget()
-                    .getPitch()));
+            double distance = PITCH_TO_DISTANCE.get(results.getBestTarget().getPitch());
             return Optional.of(PhotonUtils.estimateCameraToTargetTranslation(distance, Rotation2d.fromDegrees(-results.getBestTarget()
                     .getYaw())));
         }
@@ -93,12 +92,7 @@ public class PhotonVisionModule extends SubsystemBase {
      * @return the estimated pose and the time of detection.
      */
     public Optional<VisionEstimationData> estimatePose() {
-        PhotonPipelineResult res;
-        if (Robot.isSimulation()) {
-            res = simCamera.getLatestResult();
-        } else {
-            res = camera.getLatestResult();
-        }
+        PhotonPipelineResult res = getLatestResult();
         if (res.hasTargets()) {
             double imageCaptureTime = Timer.getFPGATimestamp() - res.getLatencyMillis() / 1000.0;
             Transform2d camToTargetTrans = res.getBestTarget().getCameraToTarget();
@@ -108,10 +102,36 @@ public class PhotonVisionModule extends SubsystemBase {
         return Optional.empty();
     }
 
+    /**
+     * Gets the latest result of the camera.
+     *
+     * @return the latest pipeline result.
+     */
+    private PhotonPipelineResult getLatestResult() {
+        if (Robot.isSimulation()) {
+            return simCamera.getLatestResult();
+        }
+        return camera.getLatestResult();
+    }
+
     @Override
     public void simulationPeriodic() {
         Pose2d robotPose = simulateDrivetrain.getPose();
-        simVisionSystem.processFrame(robotPose);
+        simCameraModel.update(Timer.getFPGATimestamp(), robotPose);
+        Optional<VisionEstimationData> estimation = estimatePose();
+        FireLog.log("robot pose", robotPose);
+        if (estimation.isPresent()) {
+            FireLog.log("vision estimation", estimation.get());
+        }
+        if (LoadGovernor.isDashboardEnabled()) {
+            publishDashboard(robotPose, estimation);
+        }
+    }
+
+    /**
+     * Publishes the simulated vision diagnostics to the dashboard.
+     */
+    private void publishDashboard(Pose2d robotPose, Optional<VisionEstimationData> estimation) {
         Optional<Translation2d> toTarget = estimateCameraTranslationToTarget();
         if (toTarget.isPresent()) {
             SmartDashboard.putNumber("to target x", toTarget.get().getX());
@@ -120,5 +140,12 @@ public class PhotonVisionModule extends SubsystemBase {
         SmartDashboard.putBoolean("hasTarget", hasTargets());
         SmartDashboard.putNumber("pose x", robotPose.getX());
         SmartDashboard.putNumber("pose y", robotPose.getY());
+        SmartDashboard.putNumber("dropped frames", simCameraModel.getDroppedFrames());
+        if (estimation.isPresent()) {
+            Pose2d estimatedPose = estimation.get().estimatedPose();
+            SmartDashboard.putNumber("vision error", estimatedPose.getTranslation().getDistance(robotPose.getTranslation()));
+            SmartDashboard.putNumber("vision capture error", estimatedPose.getTranslation().getDistance(
+                    simCameraModel.getLastDeliveredPose().getTranslation()));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package frc.robot.utils;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.Filesystem;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * An {@link InterpolatingTable} that is loaded from a file in the deploy directory and can be swapped at runtime.
+ * The table is replaced atomically, so readers never block while the file is reloaded.
+ */
+public class ReloadableTable {
+    private final File file;
+    private final InterpolatingTable.Interpolation interpolation;
+    private volatile InterpolatingTable table;
+    private long lastModified = 0;
+    private Timer timer = null;
+
+    /**
+     * @param fileName the name of the file in the deploy directory.
+     * @param fallback the table to use until the file is loaded successfully. The file is loaded with the same interpolation,
+     *                 so the values don't change shape depending on whether the file was loaded.
+     */
+    public ReloadableTable(String fileName, InterpolatingTable fallback) {
+        this.file = new File(Filesystem.getDeployDirectory(), fileName);
+        this.interpolation = fallback.getInterpolation();
+        this.table = fallback;
+        reload();
+    }
+
+    /**
+     * Gets the current table.
+     *
+     * @return the latest table that was loaded successfully.
+     */
+    public InterpolatingTable get() {
+        return table;
+    }
+
+    /**
+     * Gets the interpolated value of a column in the current table.
+     *
+     * @param key    the key to look up.
+     * @param column the index of the column.
+     * @return the interpolated value.
+     */
+    public double get(double key, int column) {
+        return table.get(key, column);
+    }
+
+    /**
+     * Reloads the table if the file was modified since the last load.
+     * If the file is invalid, or has a different number of columns than the current table, the current table is kept.
+     *
+     * @return whether the table was replaced.
+     */
+    public synchronized boolean reload() {
+        long modified = file.lastModified();
+        if (modified == 0 || modified == lastModified) {
+            return false;
+        }
+        lastModified = modified;
+        try {
+            InterpolatingTable loaded = InterpolatingTable.load(file, interpolation);
+            if (loaded.columns() != table.columns()) {
+                DriverStation.reportWarning(file.getName() + " has " + loaded.columns() + " columns instead of "
+                        + table.columns() + ", keeping the current table.", false);
+                return false;
+            }
+            table = loaded;
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Starts checking the file for changes in the background.
+     *
+     * @param period the time between checks. [ms]
+     */
+    public synchronized void watch(long period) {
+        if (timer != null) {
+            return;
+        }
+        timer = new Timer("reloadable-table-" + file.getName(), true);
+        timer.schedule(new TimerTask() {
+            @Override
+            public void run() {
+                reload();
+            }
+        }, period, period);
+    }
+}
@@ -0,0 +1,122 @@
+package frc.robot.utils;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import org.photonvision.PhotonCamera;
+import org.photonvision.SimPhotonCamera;
+import org.photonvision.SimVisionSystem;
+import org.photonvision.targeting.PhotonPipelineResult;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+/**
+ * Models the timing of a real camera on top of the {@link SimVisionSystem}.
+ * Frames are captured at a fixed frame rate, delayed by the exposure and processing latency (with jitter),
+ * and some of them are dropped, so the results are delivered with realistic latency instead of instantly.
+ * <p>
+ * The vision system must publish to a different camera name than the simulated camera, since it publishes every
+ * frame with zero latency. That raw table is still visible to other NetworkTables clients, but only the simulated
+ * camera gets the frames with their modeled latency.
+ */
+public class SimCameraModel {
+    private final SimVisionSystem simVisionSystem;
+    private final PhotonCamera rawCamera;
+    private final SimPhotonCamera simCamera;
+    private final double framePeriod;
+    private final double latency;
+    private final double jitter;
+    private final double dropChance;
+    private final Random random;
+    private final ArrayDeque<Frame> pendingFrames = new ArrayDeque<>();
+
+    private double nextCaptureTime = Double.NaN;
+    private double lastDeliveryTime = 0;
+    private Pose2d lastDeliveredPose = new Pose2d();
+    private int droppedFrames = 0;
+
+    /**
+     * @param simVisionSystem the simulated vision system that calculates the targets.
+     * @param rawCamera       a camera that reads the zero-latency results of the vision system.
+     * @param simCamera       the simulated camera the results are published to.
+     * @param frameRate       the frame rate of the camera. [fps]
+     * @param latency         the mean latency between the capture and the result. [ms]
+     * @param jitter          the standard deviation of the latency. [ms]
+     * @param dropChance      the probability of a frame being dropped. [0, 1]
+     * @param seed            the seed of the random jitter and drops, so runs can be reproduced.
+     */
+    public SimCameraModel(SimVisionSystem simVisionSystem, PhotonCamera rawCamera, SimPhotonCamera simCamera,
+                          double frameRate, double latency, double jitter, double dropChance, long seed) {
+        this.simVisionSystem = simVisionSystem;
+        this.rawCamera = rawCamera;
+        this.simCamera = simCamera;
+        this.framePeriod = 1 / frameRate;
+        this.latency = latency / 1000.0;
+        this.jitter = jitter / 1000.0;
+        this.dropChance = dropChance;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Captures and delivers all the frames that are due by the given time.
+     * Should be called every simulation loop. A frame is published at the first call after its delivery time,
+     * with the latency up to that call, so the capture time derived from the latency stays exact.
+     *
+     * @param timestamp the current time. [s]
+     * @param robotPose the current pose of the robot.
+     */
+    public void update(double timestamp, Pose2d robotPose) {
+        if (Double.isNaN(nextCaptureTime)) {
+            nextCaptureTime = timestamp;
+        }
+        while (timestamp >= nextCaptureTime) {
+            nextCaptureTime += framePeriod;
+            if (random.nextDouble() < dropChance) {
+                droppedFrames++;
+                continue;
+            }
+            double frameLatency = Math.max(0, latency + random.nextGaussian() * jitter);
+            // Frames are processed in order, so a frame can't be delivered before the previous one.
+            lastDeliveryTime = Math.max(timestamp + frameLatency, lastDeliveryTime);
+            pendingFrames.add(new Frame(robotPose, timestamp, lastDeliveryTime));
+        }
+
+        while (!pendingFrames.isEmpty() && pendingFrames.peek().deliveryTime <= timestamp) {
+            Frame frame = pendingFrames.poll();
+            simVisionSystem.processFrame(frame.pose);
+            // The vision system always reports zero latency, so the targets are resubmitted with the modeled latency.
+            PhotonPipelineResult result = rawCamera.getLatestResult();
+            simCamera.submitProcessedFrame((timestamp - frame.captureTime) * 1000, result.getTargets());
+            lastDeliveredPose = frame.pose;
+        }
+    }
+
+    /**
+     * Gets the pose of the robot at the capture of the latest delivered frame.
+     *
+     * @return the pose of the robot when the latest frame was captured.
+     */
+    public Pose2d getLastDeliveredPose() {
+        return lastDeliveredPose;
+    }
+
+    /**
+     * Gets the number of frames that were dropped since the start of the simulation.
+     *
+     * @return the number of dropped frames.
+     */
+    public int getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    private static class Frame {
+        private final Pose2d pose;
+        private final double captureTime;
+        private final double deliveryTime;
+
+        private Frame(Pose2d pose, double captureTime, double deliveryTime) {
+            this.pose = pose;
+            this.captureTime = captureTime;
+            this.deliveryTime = deliveryTime;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package frc.robot.utils;
 
 import edu.wpi.first.math.VecBuilder;
 import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
 import edu.wpi.first.math.system.plant.DCMotor;
 import edu.wpi.first.wpilibj.Encoder;
 import edu.wpi.first.wpilibj.simulation.DifferentialDrivetrainSim;
@@ -12,9 +13,15 @@ import edu.wpi.first.wpilibj2.command.SubsystemBase;
 
 import static frc.robot.Constants.Vision.HUB_POSE;
 
-public class SimulateDrivetrain extends SubsystemBase {
+public class SimulateDrivetrain extends SubsystemBase implements HighRateControl {
     private final EncoderSim leftEncoderSim;
     private final EncoderSim rightEncoderSim;
+    private final DoubleExchange inputs = new DoubleExchange(2); // Left and right voltages. [V]
+    private final DoubleExchange measurements = new DoubleExchange(3); // x [m], y [m] and heading [rad].
+    private final double[] setpointsBuffer = new double[2]; // Used only by the scheduler thread.
+    private final double[] poseBuffer = new double[3]; // Used only by the scheduler thread.
+    private final double[] inputsBuffer = new double[2]; // Used only by the high rate thread.
+    private final double[] measurementsBuffer = new double[3]; // Used only by the high rate thread.
 
     private final DifferentialDrivetrainSim driveSim = new DifferentialDrivetrainSim(
             DCMotor.getFalcon500(2),
@@ -54,6 +61,9 @@ public class SimulateDrivetrain extends SubsystemBase {
 
         leftEncoderSim.setRate(outputL * Math.PI);
         rightEncoderSim.setRate(outputR * Math.PI);
+        setpointsBuffer[0] = leftEncoderSim.getRate() / Math.PI * 12;
+        setpointsBuffer[1] = rightEncoderSim.getRate() / Math.PI * 12;
+        inputs.write(setpointsBuffer);
     }
 
     /**
@@ -62,16 +72,34 @@ public class SimulateDrivetrain extends SubsystemBase {
      * @return the pose of the simulated drivetrain.
      */
     public Pose2d getPose() {
-        return driveSim.getPose();
+        measurements.read(poseBuffer);
+        return new Pose2d(poseBuffer[0], poseBuffer[1], new Rotation2d(poseBuffer[2]));
+    }
+
+    /**
+     * Integrates the simulated drivetrain. Runs on the high rate thread, which is the only one to touch the simulation.
+     *
+     * @param dt the time since the previous update. [s]
+     */
+    @Override
+    public void highRateUpdate(double dt) {
+        inputs.read(inputsBuffer);
+        driveSim.setInputs(inputsBuffer[0], inputsBuffer[1]);
+        driveSim.update(dt);
+        Pose2d pose = driveSim.getPose();
+        measurementsBuffer[0] = pose.getX();
+        measurementsBuffer[1] = pose.getY();
+        measurementsBuffer[2] = pose.getRotation().getRadians();
+        measurements.write(measurementsBuffer);
     }
 
     @Override
     public void simulationPeriodic() {
-        driveSim.setInputs(leftEncoderSim.getRate() / Math.PI * 12,
-                rightEncoderSim.getRate() / Math.PI * 12);
-        driveSim.update(0.02);
+        if (!LoadGovernor.isDashboardEnabled()) {
+            return;
+        }
         SmartDashboard.putData("Field", field);
-        field.setRobotPose(driveSim.getPose());
+        field.setRobotPose(getPose());
         SmartDashboard.putData("Target", target);
         target.setRobotPose(HUB_POSE);
     }
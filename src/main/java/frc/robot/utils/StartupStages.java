@@ -0,0 +1,91 @@
+package frc.robot.utils;
+
+import webapp.FireLog;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Breaks the startup of the robot into timed stages.
+ * Critical stages run immediately, while non-critical stages are deferred to a background thread
+ * that starts once the robot is ready to drive.
+ */
+public class StartupStages {
+    private final Map<String, Double> durations = new LinkedHashMap<>(); // [ms]
+    private final List<String> deferredNames = new ArrayList<>();
+    private final List<Runnable> deferredStages = new ArrayList<>();
+    private double readyTime = Double.NaN; // Time since the start of the JVM. [ms]
+
+    /**
+     * Runs a critical stage immediately.
+     *
+     * @param name  the name of the stage.
+     * @param stage the stage to run.
+     */
+    public void run(String name, Runnable stage) {
+        long start = System.nanoTime();
+        stage.run();
+        record(name, start);
+    }
+
+    /**
+     * Defers a non-critical stage until the robot is ready.
+     *
+     * @param name  the name of the stage.
+     * @param stage the stage to run in the background.
+     */
+    public synchronized void defer(String name, Runnable stage) {
+        deferredNames.add(name);
+        deferredStages.add(stage);
+    }
+
+    /**
+     * Marks the robot as ready to drive and starts running the deferred stages in the background.
+     * Should be called once, at the end of {@link frc.robot.Robot#robotInit()}.
+     */
+    public synchronized void ready() {
+        readyTime = ManagementFactory.getRuntimeMXBean().getUptime();
+        List<String> names = new ArrayList<>(deferredNames);
+        List<Runnable> stages = new ArrayList<>(deferredStages);
+        deferredNames.clear();
+        deferredStages.clear();
+
+        BackgroundThreads.newThread(() -> {
+            for (int i = 0; i < stages.size(); i++) {
+                long start = System.nanoTime();
+                try {
+                    stages.get(i).run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+                record(names.get(i), start);
+            }
+            publish();
+        }, "StartupStages").start();
+    }
+
+    /**
+     * Gets a report of the duration of every stage.
+     *
+     * @return the startup report.
+     */
+    public synchronized String report() {
+        StringBuilder report = new StringBuilder("Startup report:\n");
+        durations.forEach((name, duration) -> report.append(String.format("  %-24s %8.1f ms%n", name, duration)));
+        report.append(String.format("  %-24s %8.1f ms%n", "boot to ready", readyTime));
+        return report.toString();
+    }
+
+    private synchronized void record(String name, long start) {
+        durations.put(name, (System.nanoTime() - start) / 1e6);
+    }
+
+    private synchronized void publish() {
+        System.out.print(report());
+        durations.forEach((name, duration) -> FireLog.log("startup " + name, duration.doubleValue()));
+        FireLog.log("startup boot to ready", readyTime);
+    }
+}
@@ -19,24 +19,26 @@ public class NetworkTableConstant implements WebConstant {
     private final String table;
     private final String key;
     private final double defaultValue;
-    private NetworkTableEntry constant;
+    private volatile NetworkTableEntry constant;
 
     NetworkTableConstant(String table, String key, double defaultValue) {
         this.table = table;
         this.key = key;
         this.defaultValue = defaultValue;
-        if (!initializedConstants) {
-            constants.add(this); // lazy initialization.
-        } else {
-            initialize();
+        synchronized (NetworkTableConstant.class) {
+            if (!initializedConstants) {
+                constants.add(this); // lazy initialization.
+            } else {
+                initialize();
+            }
         }
     }
 
     /**
      * Initializes all the constants.
-     * Should be used only in the {@link Robot#robotInit()} method.
+     * Should be used only as a startup stage of {@link Robot#robotInit()}, which may run in the background.
      */
-    public static void initializeAllConstants() {
+    public static synchronized void initializeAllConstants() {
         if (!initializedConstants) {
             BASE_TABLE = NetworkTableInstance.getDefault().getTable("value-tuner");
             constants.forEach(NetworkTableConstant::initialize);
@@ -56,10 +58,14 @@ public class NetworkTableConstant implements WebConstant {
     /**
      * Gets the value of the constant.
      *
-     * @return the value of the constant or the default value.
+     * @return the value of the constant or the default value, if the constant wasn't initialized yet.
      */
     @Override
     public double get() {
-        return constant.getDouble(defaultValue);
+        NetworkTableEntry entry = constant;
+        if (entry == null) {
+            return defaultValue;
+        }
+        return entry.getDouble(defaultValue);
     }
 }
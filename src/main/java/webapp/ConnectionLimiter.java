@@ -0,0 +1,30 @@
+package webapp;
+
+import org.eclipse.jetty.io.Connection;
+
+/**
+ * Closes new connections to the {@link Webserver} once the number of open connections reaches the limit.
+ */
+public class ConnectionLimiter implements Connection.Listener {
+    private final int maxConnections;
+
+    /**
+     * @param maxConnections the maximal number of open connections.
+     */
+    public ConnectionLimiter(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    @Override
+    public void onOpened(Connection connection) {
+        if (ServerMetrics.openConnections.incrementAndGet() > maxConnections) {
+            ServerMetrics.rejectedConnections.incrementAndGet();
+            connection.close();
+        }
+    }
+
+    @Override
+    public void onClosed(Connection connection) {
+        ServerMetrics.openConnections.decrementAndGet();
+    }
+}
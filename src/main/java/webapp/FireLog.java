@@ -1,32 +1,225 @@
 package webapp;
 
 import com.google.gson.JsonObject;
+import edu.wpi.first.math.geometry.Pose2d;
 import frc.robot.Robot;
+import frc.robot.utils.LoadGovernor;
+import frc.robot.utils.VisionEstimationData;
 
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Map.Entry;
 
 public class FireLog {
-    private static final HashMap<String, Object> topics = new HashMap<>();
+    private static final HashMap<String, Channel> topics = new HashMap<>();
 
     public static synchronized void log(String topic, Object value) {
+        if (!isRecording())
+            return;
+        if (value instanceof Number)
+            log(topic, ((Number) value).doubleValue());
+        else if (value instanceof Boolean)
+            log(topic, ((Boolean) value).booleanValue());
+        else if (value instanceof double[])
+            log(topic, (double[]) value);
+        else if (value instanceof Pose2d)
+            log(topic, (Pose2d) value);
+        else if (value instanceof VisionEstimationData)
+            log(topic, (VisionEstimationData) value);
+        else
+            channel(topic, TextChannel.class).value = value;
+    }
+
+    public static synchronized void log(String topic, double value) {
+        if (isRecording())
+            channel(topic, DoubleChannel.class).value = value;
+    }
+
+    public static synchronized void log(String topic, boolean value) {
+        if (isRecording())
+            channel(topic, BooleanChannel.class).value = value;
+    }
+
+    public static synchronized void log(String topic, double[] values) {
+        if (isRecording())
+            channel(topic, ArrayChannel.class).set(values);
+    }
+
+    public static synchronized void log(String topic, Pose2d pose) {
+        if (isRecording())
+            channel(topic, PoseChannel.class).set(pose, Double.NaN);
+    }
+
+    public static synchronized void log(String topic, VisionEstimationData data) {
+        if (isRecording())
+            channel(topic, PoseChannel.class).set(data.estimatedPose(), data.time());
+    }
+
+    /**
+     * Logs a value even while the {@link LoadGovernor} sheds the history, so the status of the governor itself is never lost.
+     */
+    public static synchronized void logStatus(String topic, double value) {
         if (Robot.debug)
-            topics.put(topic, value);
+            channel(topic, DoubleChannel.class).value = value;
     }
 
     public static synchronized JsonObject toJsonObject() {
         JsonObject out = new JsonObject();
+        for (Channel channel : topics.values()) {
+            channel.write(out);
+        }
+        return out;
+    }
 
-        for (Entry<String, Object> entry : topics.entrySet()) {
-            Object value = entry.getValue();
-            if (value instanceof Double)
-                out.addProperty(entry.getKey(), (Double) entry.getValue());
-            else if (value instanceof Number)
-                out.addProperty(entry.getKey(), (Number) entry.getValue());
+    /**
+     * Values are recorded only in debug, and while the {@link LoadGovernor} doesn't shed the history.
+     */
+    private static boolean isRecording() {
+        return Robot.debug && LoadGovernor.isHistoryEnabled();
+    }
+
+    /**
+     * Gets the channel of a topic, replacing it if it was logged with a different type.
+     */
+    private static <T extends Channel> T channel(String topic, Class<T> type) {
+        Channel channel = topics.get(topic);
+        if (!type.isInstance(channel)) {
+            if (type == DoubleChannel.class)
+                channel = new DoubleChannel(topic);
+            else if (type == BooleanChannel.class)
+                channel = new BooleanChannel(topic);
+            else if (type == ArrayChannel.class)
+                channel = new ArrayChannel(topic);
+            else if (type == PoseChannel.class)
+                channel = new PoseChannel(topic);
             else
-                out.addProperty(entry.getKey(), entry.getValue().toString());
+                channel = new TextChannel(topic);
+            topics.put(topic, channel);
+        }
+        return type.cast(channel);
+    }
+
+    /**
+     * A topic that stores its latest value and writes it as one or more plottable properties.
+     */
+    private abstract static class Channel {
+        protected final String topic;
+
+        Channel(String topic) {
+            this.topic = topic;
+        }
+
+        abstract void write(JsonObject out);
+    }
+
+    private static class DoubleChannel extends Channel {
+        private double value;
+
+        DoubleChannel(String topic) {
+            super(topic);
+        }
+
+        @Override
+        void write(JsonObject out) {
+            out.addProperty(topic, value);
+        }
+    }
+
+    private static class BooleanChannel extends Channel {
+        private boolean value;
+
+        BooleanChannel(String topic) {
+            super(topic);
+        }
+
+        @Override
+        void write(JsonObject out) {
+            out.addProperty(topic, value);
+        }
+    }
+
+    /**
+     * Writes every element as the property "topic[i]".
+     */
+    private static class ArrayChannel extends Channel {
+        private double[] values = new double[0];
+        private String[] keys = new String[0];
+        private int length = 0;
+
+        ArrayChannel(String topic) {
+            super(topic);
+        }
+
+        void set(double[] source) {
+            if (source.length > values.length) {
+                values = Arrays.copyOf(values, source.length);
+                keys = Arrays.copyOf(keys, source.length);
+                for (int i = length; i < source.length; i++) {
+                    keys[i] = topic + "[" + i + "]";
+                }
+            }
+            System.arraycopy(source, 0, values, 0, source.length);
+            length = source.length;
+        }
+
+        @Override
+        void write(JsonObject out) {
+            for (int i = 0; i < length; i++) {
+                out.addProperty(keys[i], values[i]);
+            }
         }
-        return out;
     }
-}
 
+    /**
+     * Writes a pose as the properties "topic.x", "topic.y" and "topic.heading", and "topic.time" if it has a time.
+     */
+    private static class PoseChannel extends Channel {
+        private final String xKey;
+        private final String yKey;
+        private final String headingKey;
+        private final String timeKey;
+        private double x; // [m]
+        private double y; // [m]
+        private double heading; // [deg]
+        private double time; // [s]
+
+        PoseChannel(String topic) {
+            super(topic);
+            xKey = topic + ".x";
+            yKey = topic + ".y";
+            headingKey = topic + ".heading";
+            timeKey = topic + ".time";
+        }
+
+        void set(Pose2d pose, double time) {
+            this.x = pose.getX();
+            this.y = pose.getY();
+            this.heading = pose.getRotation().getDegrees();
+            this.time = time;
+        }
+
+        @Override
+        void write(JsonObject out) {
+            out.addProperty(xKey, x);
+            out.addProperty(yKey, y);
+            out.addProperty(headingKey, heading);
+            if (!Double.isNaN(time))
+                out.addProperty(timeKey, time);
+        }
+    }
+
+    /**
+     * Fallback for values without a typed channel, written with {@link Object#toString()}.
+     */
+    private static class TextChannel extends Channel {
+        private Object value;
+
+        TextChannel(String topic) {
+            super(topic);
+        }
+
+        @Override
+        void write(JsonObject out) {
+            out.addProperty(topic, value.toString());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package webapp;
+
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A bounded, low priority thread pool that keeps the {@link Webserver} from competing with the robot thread.
+ * Tasks that don't fit in the queue are rejected and counted.
+ * The low priority is only a hint on the robot, see {@link frc.robot.utils.BackgroundThreads}.
+ */
+public class IsolatedThreadPool extends QueuedThreadPool {
+    public IsolatedThreadPool(int maxThreads, int queueCapacity) {
+        super(maxThreads, maxThreads, 60000, new BlockingArrayQueue<>(queueCapacity, 0, queueCapacity));
+        setName("webserver");
+        setDaemon(true);
+        setThreadsPriority(Thread.MIN_PRIORITY);
+        ServerMetrics.setThreadPool(this);
+    }
+
+    @Override
+    public void execute(Runnable job) {
+        try {
+            super.execute(job);
+        } catch (RejectedExecutionException e) {
+            ServerMetrics.rejectedTasks.incrementAndGet();
+            throw e;
+        }
+    }
+}
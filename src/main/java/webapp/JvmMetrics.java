@@ -0,0 +1,229 @@
+package webapp;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import frc.robot.utils.BackgroundThreads;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the memory, garbage collection, thread and CPU metrics of the JVM on a background thread.
+ * The samples are kept in buffers that are allocated once, and are served by the {@link Webserver}
+ * in the Prometheus text format and as JSON, and logged to the {@link FireLog}.
+ */
+public class JvmMetrics {
+    private static final Thread.State[] THREAD_STATES = Thread.State.values();
+
+    private static final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private static final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    private static final List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+    private static final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private static final String[] poolLabels = new String[pools.size()];
+    private static final double[] poolUsed = new double[pools.size()]; // [bytes]
+    private static final double[] poolCommitted = new double[pools.size()]; // [bytes]
+    private static final double[] poolMax = new double[pools.size()]; // [bytes], -1 if undefined.
+
+    private static final String[] collectorLabels = new String[collectors.size()];
+    private static final long[] collectorCount = new long[collectors.size()];
+    private static final long[] collectorTime = new long[collectors.size()]; // [ms]
+    private static final double[] collectorMeanPause = new double[collectors.size()]; // Over the last period. [ms]
+
+    private static final ThreadGroup rootThreadGroup = rootThreadGroup();
+    private static Thread[] threadBuffer = new Thread[64]; // Reused between samples, grown when it fills up.
+    private static final int[] threadStates = new int[THREAD_STATES.length];
+    private static double heapUsed = 0; // [bytes]
+    private static double heapCommitted = 0; // [bytes]
+    private static double nonHeapUsed = 0; // [bytes]
+    private static int threadCount = 0;
+    private static int daemonThreadCount = 0;
+    private static int peakThreadCount = 0;
+    private static double processCpuLoad = -1; // [0, 1], -1 if unavailable.
+    private static double systemLoadAverage = -1; // -1 if unavailable.
+
+    private static ScheduledExecutorService sampler = null;
+
+    static {
+        for (int i = 0; i < pools.size(); i++) {
+            poolLabels[i] = "{pool=\"" + pools.get(i).getName() + "\"}";
+        }
+        for (int i = 0; i < collectors.size(); i++) {
+            collectorLabels[i] = "{gc=\"" + collectors.get(i).getName() + "\"}";
+        }
+    }
+
+    /**
+     * Starts sampling the metrics in the background.
+     *
+     * @param period the time between samples. [ms]
+     */
+    public static synchronized void start(long period) {
+        if (sampler != null) {
+            return;
+        }
+        sampler = BackgroundThreads.newScheduler("JvmMetrics");
+        sampler.scheduleAtFixedRate(JvmMetrics::sample, 0, period, TimeUnit.MILLISECONDS);
+    }
+
+    private static synchronized void sample() {
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        heapUsed = heap.getUsed();
+        heapCommitted = heap.getCommitted();
+        nonHeapUsed = memory.getNonHeapMemoryUsage().getUsed();
+
+        for (int i = 0; i < poolUsed.length; i++) {
+            MemoryUsage usage = pools.get(i).getUsage();
+            poolUsed[i] = usage.getUsed();
+            poolCommitted[i] = usage.getCommitted();
+            poolMax[i] = usage.getMax();
+        }
+
+        double maxPause = 0;
+        long totalCount = 0;
+        for (int i = 0; i < collectorCount.length; i++) {
+            GarbageCollectorMXBean collector = collectors.get(i);
+            long count = collector.getCollectionCount();
+            long time = collector.getCollectionTime();
+            long collections = count - collectorCount[i];
+            collectorMeanPause[i] = collections > 0 ? (double) (time - collectorTime[i]) / collections : 0;
+            collectorCount[i] = count;
+            collectorTime[i] = time;
+            maxPause = Math.max(maxPause, collectorMeanPause[i]);
+            totalCount += count;
+        }
+
+        threadCount = threads.getThreadCount();
+        daemonThreadCount = threads.getDaemonThreadCount();
+        peakThreadCount = threads.getPeakThreadCount();
+        countThreadStates();
+
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            processCpuLoad = ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuLoad();
+        }
+        systemLoadAverage = os.getSystemLoadAverage();
+
+        FireLog.log("jvm heap used", heapUsed / 1e6);
+        FireLog.log("jvm gc count", totalCount);
+        FireLog.log("jvm gc pause", maxPause);
+        FireLog.log("jvm threads", threadCount);
+        FireLog.log("jvm process cpu", processCpuLoad);
+    }
+
+    /**
+     * Formats the latest sample in the Prometheus text exposition format.
+     *
+     * @return the metrics as text.
+     */
+    public static synchronized String toPrometheusText() {
+        StringBuilder out = new StringBuilder(4096);
+        gauge(out, "jvm_memory_heap_used_bytes", "", heapUsed);
+        gauge(out, "jvm_memory_heap_committed_bytes", "", heapCommitted);
+        gauge(out, "jvm_memory_nonheap_used_bytes", "", nonHeapUsed);
+        for (int i = 0; i < poolLabels.length; i++) {
+            gauge(out, "jvm_memory_pool_used_bytes", poolLabels[i], poolUsed[i]);
+            gauge(out, "jvm_memory_pool_committed_bytes", poolLabels[i], poolCommitted[i]);
+            gauge(out, "jvm_memory_pool_max_bytes", poolLabels[i], poolMax[i]);
+        }
+        for (int i = 0; i < collectorLabels.length; i++) {
+            gauge(out, "jvm_gc_collections_total", collectorLabels[i], collectorCount[i]);
+            gauge(out, "jvm_gc_collection_seconds_total", collectorLabels[i], collectorTime[i] / 1000.0);
+            gauge(out, "jvm_gc_mean_pause_seconds", collectorLabels[i], collectorMeanPause[i] / 1000.0);
+        }
+        gauge(out, "jvm_threads_current", "", threadCount);
+        gauge(out, "jvm_threads_daemon", "", daemonThreadCount);
+        gauge(out, "jvm_threads_peak", "", peakThreadCount);
+        for (int i = 0; i < THREAD_STATES.length; i++) {
+            gauge(out, "jvm_threads_state", "{state=\"" + THREAD_STATES[i] + "\"}", threadStates[i]);
+        }
+        gauge(out, "process_cpu_load", "", processCpuLoad);
+        gauge(out, "system_load_average", "", systemLoadAverage);
+        return out.toString();
+    }
+
+    /**
+     * Formats the latest sample as JSON.
+     *
+     * @return the metrics as a JSON object.
+     */
+    public static synchronized JsonObject toJsonObject() {
+        JsonObject out = new JsonObject();
+        out.addProperty("heap used", heapUsed);
+        out.addProperty("heap committed", heapCommitted);
+        out.addProperty("nonheap used", nonHeapUsed);
+
+        JsonArray poolsJson = new JsonArray();
+        for (int i = 0; i < poolUsed.length; i++) {
+            JsonObject pool = new JsonObject();
+            pool.addProperty("name", pools.get(i).getName());
+            pool.addProperty("used", poolUsed[i]);
+            pool.addProperty("committed", poolCommitted[i]);
+            pool.addProperty("max", poolMax[i]);
+            poolsJson.add(pool);
+        }
+        out.add("pools", poolsJson);
+
+        JsonArray collectorsJson = new JsonArray();
+        for (int i = 0; i < collectorCount.length; i++) {
+            JsonObject collector = new JsonObject();
+            collector.addProperty("name", collectors.get(i).getName());
+            collector.addProperty("count", collectorCount[i]);
+            collector.addProperty("time", collectorTime[i]);
+            collector.addProperty("mean pause", collectorMeanPause[i]);
+            collectorsJson.add(collector);
+        }
+        out.add("gc", collectorsJson);
+
+        JsonObject threadsJson = new JsonObject();
+        threadsJson.addProperty("current", threadCount);
+        threadsJson.addProperty("daemon", daemonThreadCount);
+        threadsJson.addProperty("peak", peakThreadCount);
+        for (int i = 0; i < THREAD_STATES.length; i++) {
+            threadsJson.addProperty(THREAD_STATES[i].name(), threadStates[i]);
+        }
+        out.add("threads", threadsJson);
+
+        out.addProperty("process cpu load", processCpuLoad);
+        out.addProperty("system load average", systemLoadAverage);
+        return out;
+    }
+
+    /**
+     * Counts the threads in every state with {@link Thread#getState()}, which unlike
+     * {@link ThreadMXBean#getThreadInfo(long[])} doesn't stop the JVM at a safepoint or allocate thread infos.
+     */
+    private static void countThreadStates() {
+        int count;
+        while ((count = rootThreadGroup.enumerate(threadBuffer, true)) == threadBuffer.length) {
+            threadBuffer = new Thread[threadBuffer.length * 2];
+        }
+        for (int i = 0; i < threadStates.length; i++) {
+            threadStates[i] = 0;
+        }
+        for (int i = 0; i < count; i++) {
+            threadStates[threadBuffer[i].getState().ordinal()]++;
+            threadBuffer[i] = null; // Don't keep finished threads alive until the next sample.
+        }
+    }
+
+    private static ThreadGroup rootThreadGroup() {
+        ThreadGroup group = Thread.currentThread().getThreadGroup();
+        while (group.getParent() != null) {
+            group = group.getParent();
+        }
+        return group;
+    }
+
+    private static void gauge(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+}
@@ -0,0 +1,116 @@
+package webapp;
+
+import frc.robot.utils.BackgroundThreads;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Limits the number of requests the {@link Webserver} handles at once, and aborts requests that exceed their budget.
+ * Requests beyond the limit are answered with 503 without running the handlers, so their pool thread is released right away.
+ * A request that uses more CPU time or wall time than its budget has its connection closed, which fails its pending
+ * reads and writes so the handler returns and releases the thread.
+ */
+public class RequestLimitHandler extends HandlerWrapper {
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    // A single low priority thread checks the budgets of every request.
+    private static final ScheduledExecutorService watchdog = BackgroundThreads.newScheduler("RequestLimitHandler");
+    private static final long MIN_CHECK_DELAY = 1000000; // [ns]
+
+    private final int maxActiveRequests;
+    private final long cpuBudgetNanos;
+    private final long timeBudgetNanos;
+    private final boolean measureCpu;
+
+    /**
+     * @param maxActiveRequests the maximal number of requests handled at once.
+     * @param cpuBudget         the CPU time budget of a single request. [ms]
+     * @param timeBudget        the wall time budget of a single request. [ms]
+     */
+    public RequestLimitHandler(int maxActiveRequests, long cpuBudget, long timeBudget) {
+        this.maxActiveRequests = maxActiveRequests;
+        this.cpuBudgetNanos = cpuBudget * 1000000;
+        this.timeBudgetNanos = timeBudget * 1000000;
+        this.measureCpu = threads.isThreadCpuTimeSupported();
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException, ServletException {
+        if (ServerMetrics.activeRequests.incrementAndGet() > maxActiveRequests) {
+            ServerMetrics.activeRequests.decrementAndGet();
+            ServerMetrics.rejectedRequests.incrementAndGet();
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            baseRequest.setHandled(true);
+            return;
+        }
+
+        Budget budget = new Budget(baseRequest, Thread.currentThread().getId());
+        try {
+            super.handle(target, baseRequest, request, response);
+        } finally {
+            budget.finish();
+            ServerMetrics.activeRequests.decrementAndGet();
+        }
+    }
+
+    /**
+     * Checks the CPU and wall time of a request from the watchdog thread, until the request finishes or is aborted.
+     */
+    private class Budget implements Runnable {
+        private final Request request;
+        private final long threadId;
+        private final long start = System.nanoTime();
+        private final long startCpu;
+        private ScheduledFuture<?> check = null;
+        private boolean finished = false;
+
+        Budget(Request request, long threadId) {
+            this.request = request;
+            this.threadId = threadId;
+            this.startCpu = measureCpu ? threads.getThreadCpuTime(threadId) : 0;
+            schedule(Math.min(cpuBudgetNanos, timeBudgetNanos));
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                long cpuLeft = measureCpu ? cpuBudgetNanos - (threads.getThreadCpuTime(threadId) - startCpu) : Long.MAX_VALUE;
+                long timeLeft = timeBudgetNanos - (System.nanoTime() - start);
+                if (cpuLeft > 0 && timeLeft > 0) {
+                    // CPU time can't pass faster than wall time, so nothing can run out before the nearest remainder.
+                    schedule(Math.max(Math.min(cpuLeft, timeLeft), MIN_CHECK_DELAY));
+                    return;
+                }
+                finished = true;
+            }
+            ServerMetrics.abortedRequests.incrementAndGet();
+            request.getHttpChannel().abort(new TimeoutException("Request exceeded its budget: " + request.getRequestURI()));
+        }
+
+        synchronized void finish() {
+            finished = true;
+            if (check != null) {
+                check.cancel(false);
+            }
+        }
+
+        private synchronized void schedule(long delay) {
+            if (!finished) {
+                check = watchdog.schedule(this, delay, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
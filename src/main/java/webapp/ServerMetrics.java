@@ -0,0 +1,41 @@
+package webapp;
+
+import com.google.gson.JsonObject;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the load on the {@link Webserver}, used to see how much work the isolation limits turned away.
+ */
+public class ServerMetrics {
+    static final AtomicInteger openConnections = new AtomicInteger();
+    static final AtomicInteger activeRequests = new AtomicInteger();
+    static final AtomicLong rejectedConnections = new AtomicLong();
+    static final AtomicLong rejectedRequests = new AtomicLong();
+    static final AtomicLong rejectedTasks = new AtomicLong();
+    static final AtomicLong abortedRequests = new AtomicLong();
+    private static volatile QueuedThreadPool threadPool = null;
+
+    static void setThreadPool(QueuedThreadPool pool) {
+        threadPool = pool;
+    }
+
+    public static JsonObject toJsonObject() {
+        JsonObject out = new JsonObject();
+        QueuedThreadPool pool = threadPool;
+        if (pool != null) {
+            out.addProperty("threads", pool.getThreads());
+            out.addProperty("busy threads", pool.getBusyThreads());
+            out.addProperty("queued tasks", pool.getQueueSize());
+        }
+        out.addProperty("open connections", openConnections.get());
+        out.addProperty("active requests", activeRequests.get());
+        out.addProperty("rejected connections", rejectedConnections.get());
+        out.addProperty("rejected requests", rejectedRequests.get());
+        out.addProperty("rejected tasks", rejectedTasks.get());
+        out.addProperty("aborted requests", abortedRequests.get());
+        return out;
+    }
+}
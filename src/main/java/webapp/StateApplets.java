@@ -15,5 +15,35 @@ public class StateApplets {
             res.getWriter().println(FireLog.toJsonObject());
         }
     }
+
+    public static class ServerState extends HttpServlet {
+        private static final long serialVersionUID = -2470356145870331164L;
+
+        protected void doGet(HttpServletRequest req, HttpServletResponse res) throws IOException {
+            res.setContentType("application/json");
+            res.setStatus(HttpServletResponse.SC_OK);
+            res.getWriter().println(ServerMetrics.toJsonObject());
+        }
+    }
+
+    public static class JvmMetricsText extends HttpServlet {
+        private static final long serialVersionUID = 5129364480417736203L;
+
+        protected void doGet(HttpServletRequest req, HttpServletResponse res) throws IOException {
+            res.setContentType("text/plain; version=0.0.4");
+            res.setStatus(HttpServletResponse.SC_OK);
+            res.getWriter().print(JvmMetrics.toPrometheusText());
+        }
+    }
+
+    public static class JvmMetricsJson extends HttpServlet {
+        private static final long serialVersionUID = -8735261570442113928L;
+
+        protected void doGet(HttpServletRequest req, HttpServletResponse res) throws IOException {
+            res.setContentType("application/json");
+            res.setStatus(HttpServletResponse.SC_OK);
+            res.getWriter().println(JvmMetrics.toJsonObject());
+        }
+    }
 }
  
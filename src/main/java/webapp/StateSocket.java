@@ -1,25 +1,32 @@
 package webapp;
 
+import frc.robot.utils.BackgroundThreads;
+import frc.robot.utils.LoadGovernor;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.WebSocketListener;
 import org.eclipse.jetty.websocket.servlet.WebSocketServlet;
 import org.eclipse.jetty.websocket.servlet.WebSocketServletFactory;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public class StateSocket extends WebSocketServlet {
     private static final long serialVersionUID = -6042298400375548987L;
+    private static final int REDUCED_RATE_DIVIDER = 5; // Pushes every 500ms instead of 100ms while the robot loop is overloaded.
+    // A single low priority thread pushes the state to every client, instead of a timer thread per client.
+    private static final ScheduledExecutorService pusher = BackgroundThreads.newScheduler("StateSocket");
 
     @Override
     public void configure(WebSocketServletFactory factory) {
         factory.register(StateSocketAdapter.class);
     }
 
-    public static class StateSocketAdapter extends TimerTask implements WebSocketListener {
+    public static class StateSocketAdapter implements Runnable, WebSocketListener {
         Session session;
-        boolean invalid = false;
-        Timer timer = new Timer();
+        volatile boolean invalid = false;
+        volatile ScheduledFuture<?> task;
+        int ticks = 0;
 
         public StateSocketAdapter() {
 
@@ -28,25 +35,27 @@ public class StateSocket extends WebSocketServlet {
         @Override
         public void onWebSocketConnect(Session session) {
             this.session = session;
-            timer.schedule(this, 0, 100);
+            task = pusher.scheduleAtFixedRate(this, 0, 100, TimeUnit.MILLISECONDS);
         }
 
         @Override
         public void onWebSocketClose(int statusCode, String reason) {
-            timer.cancel();
-            invalid = true;
+            cancel();
         }
 
         @Override
         public void onWebSocketError(Throwable cause) {
             cause.printStackTrace();
-            timer.cancel();
-            invalid = true;
+            cancel();
         }
 
         @Override
         public void run() {
-            if (invalid || !session.isOpen())
+            if (invalid || !session.isOpen()) {
+                cancel();
+                return;
+            }
+            if (LoadGovernor.isPushRateReduced() && ticks++ % REDUCED_RATE_DIVIDER != 0)
                 return;
 
             try {
@@ -56,6 +65,12 @@ public class StateSocket extends WebSocketServlet {
             }
         }
 
+        private void cancel() {
+            invalid = true;
+            if (task != null)
+                task.cancel(false);
+        }
+
         @Override
         public void onWebSocketBinary(byte[] arg0, int arg1, int arg2) {
         }
@@ -3,6 +3,7 @@ package webapp;
 import edu.wpi.first.wpilibj.Filesystem;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.handler.HandlerList;
 import org.eclipse.jetty.server.handler.ResourceHandler;
 import org.eclipse.jetty.servlet.ServletContextHandler;
@@ -10,8 +11,31 @@ import org.eclipse.jetty.servlet.ServletContextHandler;
 import java.io.File;
 
 public class Webserver {
-    public Webserver() throws Exception {
-        Server server = new Server(5801);
+    private static final int PORT = 5801;
+    private static final int ISOLATED_MAX_THREADS = 6; // Including the acceptor and selector threads.
+    private static final int ISOLATED_QUEUE_CAPACITY = 32;
+    private static final int ISOLATED_MAX_CONNECTIONS = 8;
+    private static final int ISOLATED_MAX_ACTIVE_REQUESTS = 3;
+    private static final long ISOLATED_REQUEST_CPU_BUDGET = 20; // [ms]
+    private static final long ISOLATED_REQUEST_TIME_BUDGET = 1000; // Long enough to send the biggest page over the field network. [ms]
+    private static final long ISOLATED_IDLE_TIMEOUT = 5000; // Closes idle keep-alive connections, so they don't hold a connection slot. [ms]
+    private static final long JVM_METRICS_PERIOD = 1000; // [ms]
+
+    /**
+     * @param isolated whether to limit the resources of the server, so it doesn't compete with the robot thread.
+     */
+    public Webserver(boolean isolated) throws Exception {
+        Server server;
+        if (isolated) {
+            server = new Server(new IsolatedThreadPool(ISOLATED_MAX_THREADS, ISOLATED_QUEUE_CAPACITY));
+            ServerConnector connector = new ServerConnector(server, 1, 1);
+            connector.setPort(PORT);
+            connector.setIdleTimeout(ISOLATED_IDLE_TIMEOUT);
+            connector.addBean(new ConnectionLimiter(ISOLATED_MAX_CONNECTIONS));
+            server.addConnector(connector);
+        } else {
+            server = new Server(PORT);
+        }
 
         ServletContextHandler servlets = new ServletContextHandler(ServletContextHandler.SESSIONS);
 
@@ -19,6 +43,9 @@ public class Webserver {
 
         servlets.addServlet(StateSocket.class, "/state/socket");
         servlets.addServlet(StateApplets.LatestState.class, "/state/latest");
+        servlets.addServlet(StateApplets.ServerState.class, "/server/stats");
+        servlets.addServlet(StateApplets.JvmMetricsText.class, "/metrics");
+        servlets.addServlet(StateApplets.JvmMetricsJson.class, "/metrics/json");
 
         ResourceHandler resource_handler = new ResourceHandler();
         resource_handler.setWelcomeFiles(new String[]{"firescope.html"});
@@ -26,8 +53,16 @@ public class Webserver {
 
         HandlerList handlers = new HandlerList();
         handlers.setHandlers(new Handler[]{resource_handler, servlets});
-        server.setHandler(handlers);
+        if (isolated) {
+            RequestLimitHandler limiter = new RequestLimitHandler(ISOLATED_MAX_ACTIVE_REQUESTS,
+                    ISOLATED_REQUEST_CPU_BUDGET, ISOLATED_REQUEST_TIME_BUDGET);
+            limiter.setHandler(handlers);
+            server.setHandler(limiter);
+        } else {
+            server.setHandler(handlers);
+        }
 
         server.start();
+        JvmMetrics.start(JVM_METRICS_PERIOD);
     }
 }
@@ -0,0 +1,71 @@
+package frc.robot.autonomous;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.trajectory.Trajectory;
+import edu.wpi.first.math.trajectory.TrajectoryConfig;
+import edu.wpi.first.math.trajectory.TrajectoryGenerator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static frc.robot.Constants.Autonomous.MAX_ACCELERATION;
+import static frc.robot.Constants.Autonomous.MAX_VELOCITY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MappedTrajectoryTest {
+    private static final double EPSILON = 1e-6;
+    private static final double TIME_STEP = 0.005; // [s]
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void samplesEveryAutonomousTrajectory() throws IOException {
+        for (AutonomousTrajectories trajectory : AutonomousTrajectories.values()) {
+            assertSamplesMatch(trajectory.generate());
+        }
+    }
+
+    @Test
+    public void samplesReversedTrajectory() throws IOException {
+        // An S-curve driven backwards, so the velocities are negative and the heading changes along the way.
+        Trajectory trajectory = TrajectoryGenerator.generateTrajectory(
+                List.of(new Pose2d(5, 4, Rotation2d.fromDegrees(0)), new Pose2d(2, 2.5, Rotation2d.fromDegrees(0))),
+                new TrajectoryConfig(MAX_VELOCITY, MAX_ACCELERATION).setReversed(true));
+        assertTrue(trajectory.sample(trajectory.getTotalTimeSeconds() / 2).velocityMetersPerSecond < 0);
+        assertSamplesMatch(trajectory);
+    }
+
+    private void assertSamplesMatch(Trajectory trajectory) throws IOException {
+        File file = folder.newFile();
+        TrajectoryCacheGenerator.write(trajectory, file);
+        MappedTrajectory mapped = MappedTrajectory.load(file);
+
+        assertEquals(trajectory.getTotalTimeSeconds(), mapped.getTotalTime(), EPSILON);
+        assertPoseEquals(trajectory.getInitialPose(), mapped.getInitialPose());
+        // Also samples before the start and after the end, which are clamped to the first and last states.
+        for (double time = -0.5; time <= trajectory.getTotalTimeSeconds() + 0.5; time += TIME_STEP) {
+            Trajectory.State expected = trajectory.sample(time);
+            Trajectory.State actual = mapped.sample(time);
+            String message = "At " + time + " s";
+            assertEquals(message, expected.timeSeconds, actual.timeSeconds, EPSILON);
+            assertEquals(message, expected.velocityMetersPerSecond, actual.velocityMetersPerSecond, EPSILON);
+            assertEquals(message, expected.accelerationMetersPerSecondSq, actual.accelerationMetersPerSecondSq, EPSILON);
+            assertEquals(message, expected.curvatureRadPerMeter, actual.curvatureRadPerMeter, EPSILON);
+            assertPoseEquals(expected.poseMeters, actual.poseMeters);
+        }
+    }
+
+    private static void assertPoseEquals(Pose2d expected, Pose2d actual) {
+        assertEquals(expected.getX(), actual.getX(), EPSILON);
+        assertEquals(expected.getY(), actual.getY(), EPSILON);
+        assertEquals(0, Math.IEEEremainder(
+                expected.getRotation().getRadians() - actual.getRotation().getRadians(), 2 * Math.PI), EPSILON);
+    }
+}
@@ -0,0 +1,111 @@
+package frc.robot.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DoubleExchangeTest {
+    private static final int SIZE = 16;
+    private static final int WRITES = 2_000_000;
+
+    @Test
+    public void readsLatestValues() {
+        DoubleExchange exchange = new DoubleExchange(3);
+        double[] destination = new double[3];
+        exchange.read(destination);
+        assertArrayEquals(new double[]{0, 0, 0}, destination, 0);
+
+        exchange.write(new double[]{1, 2, 3});
+        exchange.read(destination);
+        assertArrayEquals(new double[]{1, 2, 3}, destination, 0);
+    }
+
+    @Test
+    public void keepsPreviousValuesUntilUpdated() {
+        DoubleExchange exchange = new DoubleExchange(2);
+        double[] destination = new double[2];
+        assertFalse(exchange.read(destination));
+
+        exchange.write(new double[]{1, 2});
+        exchange.write(new double[]{3, 4});
+        assertTrue(exchange.read(destination));
+        assertArrayEquals(new double[]{3, 4}, destination, 0);
+
+        assertFalse(exchange.read(destination));
+        assertArrayEquals(new double[]{3, 4}, destination, 0);
+
+        exchange.write(new double[]{5, 6});
+        assertTrue(exchange.read(destination));
+        assertArrayEquals(new double[]{5, 6}, destination, 0);
+    }
+
+    @Test
+    public void readerNeverSeesTornWrites() throws InterruptedException {
+        DoubleExchange exchange = new DoubleExchange(SIZE);
+        double[] initial = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            initial[i] = i;
+        }
+        exchange.write(initial);
+        AtomicBoolean done = new AtomicBoolean(false);
+        Thread writer = new Thread(() -> {
+            double[] source = new double[SIZE];
+            for (int write = 1; write <= WRITES; write++) {
+                for (int i = 0; i < SIZE; i++) {
+                    source[i] = write + i;
+                }
+                exchange.write(source);
+            }
+            done.set(true);
+        });
+        writer.start();
+
+        // Every write is a consecutive sequence starting at the write number, so a mix of two writes is detectable.
+        double[] destination = new double[SIZE];
+        double last = 0;
+        long reads = 0;
+        while (!done.get()) {
+            exchange.read(destination);
+            for (int i = 1; i < SIZE; i++) {
+                assertEquals(destination[0] + i, destination[i], 0);
+            }
+            assertTrue("Values went back in time", destination[0] >= last);
+            last = destination[0];
+            reads++;
+        }
+        writer.join();
+
+        exchange.read(destination);
+        assertEquals(WRITES, destination[0], 0);
+        assertTrue(reads > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsShortWrite() {
+        new DoubleExchange(3).write(new double[2]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsLongRead() {
+        new DoubleExchange(3).read(new double[4]);
+    }
+
+    @Test
+    public void failedWriteDoesNotBlockReader() {
+        DoubleExchange exchange = new DoubleExchange(2);
+        exchange.write(new double[]{1, 2});
+        try {
+            exchange.write(new double[]{3, 4, 5});
+        } catch (IllegalArgumentException e) {
+            // Expected, the exchange must still be readable.
+        }
+        double[] destination = new double[2];
+        exchange.read(destination);
+        assertArrayEquals(new double[]{1, 2}, destination, 0);
+    }
+}
@@ -0,0 +1,132 @@
+package frc.robot.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import static frc.robot.utils.InterpolatingTable.Interpolation.CUBIC;
+import static frc.robot.utils.InterpolatingTable.Interpolation.LINEAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InterpolatingTableTest {
+    private static final double EPSILON = 1e-9;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void linearInterpolatesBetweenKeys() {
+        InterpolatingTable table = new InterpolatingTable(
+                new double[]{0, 1, 3}, new double[][]{{0, 10, 30}, {5, 4, 0}}, LINEAR);
+        assertEquals(5, table.get(0.5), EPSILON);
+        assertEquals(20, table.get(2), EPSILON);
+        assertEquals(2, table.get(2, 1), EPSILON);
+        assertEquals(4, table.get(1, 1), EPSILON);
+    }
+
+    @Test
+    public void uniformLookupMatchesBinarySearch() {
+        // The same points, once evenly spaced (O(1) lookup) and once with an extra key that breaks the spacing.
+        double[] uniformKeys = new double[101];
+        double[] uniformValues = new double[101];
+        double[] keys = new double[102];
+        double[] values = new double[102];
+        for (int i = 0; i <= 100; i++) {
+            uniformKeys[i] = i * 0.1;
+            uniformValues[i] = Math.sin(uniformKeys[i]);
+        }
+        System.arraycopy(uniformKeys, 0, keys, 0, 101);
+        System.arraycopy(uniformValues, 0, values, 0, 101);
+        keys[101] = 10.05;
+        values[101] = uniformValues[100];
+        InterpolatingTable uniform = new InterpolatingTable(uniformKeys, new double[][]{uniformValues}, LINEAR);
+        InterpolatingTable searched = new InterpolatingTable(keys, new double[][]{values}, LINEAR);
+
+        for (double key = 0; key <= 10; key += 0.0137) {
+            assertEquals(searched.get(key), uniform.get(key), EPSILON);
+        }
+        for (int i = 0; i <= 100; i++) {
+            assertEquals(uniformValues[i], uniform.get(uniformKeys[i]), EPSILON);
+            assertEquals(uniformValues[i], searched.get(uniformKeys[i]), EPSILON);
+        }
+    }
+
+    @Test
+    public void cubicIsMoreAccurateThanLinear() {
+        InterpolatingTable linear = InterpolatingTable.of(Math::sin, 0, Math.PI, 21, LINEAR);
+        InterpolatingTable cubic = InterpolatingTable.of(Math::sin, 0, Math.PI, 21, CUBIC);
+        double linearError = 0;
+        double cubicError = 0;
+        for (double key = 0; key <= Math.PI; key += 0.001) {
+            linearError = Math.max(linearError, Math.abs(linear.get(key) - Math.sin(key)));
+            cubicError = Math.max(cubicError, Math.abs(cubic.get(key) - Math.sin(key)));
+        }
+        assertEquals(0, cubicError, 1e-3);
+        assertEquals(0, linearError, 5e-3);
+        assertTrue(cubicError < linearError);
+    }
+
+    @Test
+    public void cubicPassesThroughKeys() {
+        InterpolatingTable table = new InterpolatingTable(
+                new double[]{0, 1, 2.5, 4}, new double[][]{{1, 3, 2, 7}}, CUBIC);
+        assertEquals(1, table.get(0), EPSILON);
+        assertEquals(3, table.get(1), EPSILON);
+        assertEquals(2, table.get(2.5), EPSILON);
+        assertEquals(7, table.get(4), EPSILON);
+    }
+
+    @Test
+    public void clampsOutsideTheRange() {
+        for (InterpolatingTable.Interpolation interpolation : InterpolatingTable.Interpolation.values()) {
+            InterpolatingTable table = new InterpolatingTable(
+                    new double[]{1, 2, 3}, new double[][]{{10, 20, 40}}, interpolation);
+            assertEquals(10, table.get(-100), EPSILON);
+            assertEquals(10, table.get(1), EPSILON);
+            assertEquals(40, table.get(3), EPSILON);
+            assertEquals(40, table.get(100), EPSILON);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsSingleKey() {
+        new InterpolatingTable(new double[]{1}, new double[][]{{1}}, LINEAR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonIncreasingKeys() {
+        new InterpolatingTable(new double[]{1, 2, 2}, new double[][]{{1, 2, 3}}, LINEAR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsColumnLengthMismatch() {
+        new InterpolatingTable(new double[]{1, 2, 3}, new double[][]{{1, 2}}, LINEAR);
+    }
+
+    @Test
+    public void loadsCommaSeparatedFile() throws IOException {
+        File file = folder.newFile("table.csv");
+        try (Writer writer = new FileWriter(file)) {
+            writer.write("# distance, velocity, hood angle\n\n1, 100, 10\n2, 200, 30\n");
+        }
+        InterpolatingTable table = InterpolatingTable.load(file, LINEAR);
+        assertEquals(2, table.columns());
+        assertEquals(150, table.get(1.5, 0), EPSILON);
+        assertEquals(20, table.get(1.5, 1), EPSILON);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsInconsistentColumns() throws IOException {
+        File file = folder.newFile("table.csv");
+        try (Writer writer = new FileWriter(file)) {
+            writer.write("1, 100, 10\n2, 200\n");
+        }
+        InterpolatingTable.load(file, LINEAR);
+    }
+}